@@ -0,0 +1,58 @@
+package frc.robot.commands.drivetrain;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.logging.LoggerRelations;
+import frc.robot.oi.LoggerAxis;
+import frc.robot.subsystems.Drivetrain;
+import frc.robot.subsystems.Shifter;
+
+/**
+ * One execute() of teleop driving. The drivetrain and shifter are stub-only
+ * mocks so no motor controllers are made and calls aren't recorded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArcadeDriveBenchmark {
+
+    private ArcadeDrive arcadeDrive;
+
+    private double[] positions = new double[256];
+    private int position;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = Math.sin(i * 2 * Math.PI / positions.length);
+        }
+
+        Drivetrain drivetrain = mock(Drivetrain.class, withSettings().stubOnly());
+        Shifter shifter = mock(Shifter.class, withSettings().stubOnly());
+
+        arcadeDrive = new ArcadeDrive(
+            drivetrain,
+            shifter,
+            new LoggerAxis(() -> Math.max(positions[position], 0), LoggerRelations.RIGHT_TRIGGER),
+            new LoggerAxis(() -> Math.max(-positions[position], 0), LoggerRelations.LEFT_TRIGGER),
+            new LoggerAxis(() -> positions[(position + 64) & (positions.length - 1)], LoggerRelations.LEFT_STICK_X)
+        );
+    }
+
+    @Benchmark
+    public void execute() {
+        position = (position + 1) & (positions.length - 1);
+        arcadeDrive.execute();
+    }
+}
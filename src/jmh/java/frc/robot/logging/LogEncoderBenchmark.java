@@ -0,0 +1,57 @@
+package frc.robot.logging;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encoding one logged frame of every channel, as the log writer does each loop
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogEncoderBenchmark {
+
+    // channels that change every loop, like axes and motor powers do
+    private static final int CHANGED_CHANNELS = 8;
+
+    @Param({"BINARY", "BINARY_FLOAT", "CSV"})
+    public LogFormat format;
+
+    private LogEncoder encoder;
+    private ByteBuffer buffer;
+    private double[] values;
+    private long time;
+
+    @Setup
+    public void setUp() {
+        encoder = format.createEncoder();
+        encoder.encodeHeader(0, LoggerRelations.getChannelNames(), LoggerRelations.getChannelTypes());
+
+        values = new double[LoggerRelations.getChannelCount()];
+        buffer = ByteBuffer.allocateDirect(encoder.getMaxFrameSize(values.length));
+    }
+
+    @Benchmark
+    public ByteBuffer encodeFrame() {
+        time += 20000;
+
+        // spread across the channels and moved along each loop, so events change too
+        int loop = (int) (time / 20000);
+        for (int i = 0; i < CHANGED_CHANNELS; i++) {
+            values[(loop + i * values.length / CHANGED_CHANNELS) % values.length] = time * 1e-6 + i;
+        }
+
+        buffer.clear();
+        encoder.encodeFrame(buffer, time, values);
+        return buffer;
+    }
+}
@@ -0,0 +1,44 @@
+package frc.robot.oi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.wpi.first.hal.HAL;
+
+/**
+ * Polling the four d-pad buttons, as the scheduler does every loop. Needs the
+ * simulation HAL for the driver station.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ControllerDriverBenchmark {
+
+    private ControllerDriver controller;
+
+    @Setup
+    public void setUp() {
+        HAL.initialize(500, 0);
+
+        controller = new ControllerDriver(0, null);
+    }
+
+    @Benchmark
+    public int dPad() {
+        int pressed = 0;
+
+        if (controller.dPadUp.get()) pressed++;
+        if (controller.dPadDown.get()) pressed++;
+        if (controller.dPadLeft.get()) pressed++;
+        if (controller.dPadRight.get()) pressed++;
+
+        return pressed;
+    }
+}
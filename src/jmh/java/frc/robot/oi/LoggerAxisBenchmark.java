@@ -0,0 +1,42 @@
+package frc.robot.oi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.logging.LoggerRelations;
+
+/**
+ * Reading an axis through its deadzone, with the stick moving in and out of it
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerAxisBenchmark {
+
+    private LoggerAxis axis;
+
+    private double[] positions = new double[256];
+    private int position;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = Math.sin(i * 2 * Math.PI / positions.length);
+        }
+
+        axis = new LoggerAxis(() -> positions[position], LoggerRelations.LEFT_STICK_X);
+    }
+
+    @Benchmark
+    public double get() {
+        position = (position + 1) & (positions.length - 1);
+        return axis.get();
+    }
+}
@@ -0,0 +1,67 @@
+package frc.robot.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.InstantCommand;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+
+/**
+ * One run of the scheduler with a number of {@link Functions#bindCommand}
+ * bindings to poll. Nothing is ever scheduled, so this is the cost of the
+ * polling alone. Needs the simulation HAL for the scheduler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindCommandBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int bindings;
+
+    private CommandScheduler scheduler;
+
+    private boolean pressed;
+
+    @Setup
+    public void setUp() {
+        HAL.initialize(500, 0);
+
+        scheduler = CommandScheduler.getInstance();
+        scheduler.clearButtons();
+
+        Command bindable = new InstantCommand();
+
+        for (int i = 0; i < bindings; i++) {
+            Functions.bindCommand(
+                bindable,
+                new Trigger(() -> pressed),
+                Trigger::whenActive,
+                new InstantCommand()
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.clearButtons();
+    }
+
+    @Benchmark
+    public void run() {
+        pressed = !pressed;
+        scheduler.run();
+    }
+}
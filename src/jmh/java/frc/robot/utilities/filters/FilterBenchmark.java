@@ -0,0 +1,72 @@
+package frc.robot.utilities.filters;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Adding a sample to each filter. The sizes are the ones the robot uses: 8 for
+ * trimming the arms, 10 for the shooter and 50 for the lidars.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterBenchmark {
+
+    @Param({"8", "10", "50"})
+    public int size;
+
+    private MovingAverage movingAverage;
+    private MedianFilter median;
+    private ExponentialAverage exponential;
+    private KalmanFilter kalman;
+
+    private double[] samples = new double[1024];
+    private int sample;
+
+    @Setup
+    public void setUp() {
+        movingAverage = new MovingAverage(size);
+        median = new MedianFilter(size);
+        exponential = new ExponentialAverage(0.1);
+        kalman = new KalmanFilter(0.01, 25);
+
+        Random random = new Random(0);
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 100 + random.nextGaussian() * 5;
+        }
+    }
+
+    private double next() {
+        sample = (sample + 1) & (samples.length - 1);
+        return samples[sample];
+    }
+
+    @Benchmark
+    public double movingAverage() {
+        return movingAverage.calculate(next());
+    }
+
+    @Benchmark
+    public double median() {
+        return median.calculate(next());
+    }
+
+    @Benchmark
+    public double exponential() {
+        return exponential.calculate(next());
+    }
+
+    @Benchmark
+    public double kalman() {
+        return kalman.calculate(next());
+    }
+}
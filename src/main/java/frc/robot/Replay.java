@@ -0,0 +1,66 @@
+package frc.robot;
+
+import java.io.IOException;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.hal.sim.DriverStationSim;
+import frc.robot.logging.LogReplay;
+
+/**
+ * Runs the robot code in simulation against a recorded log instead of a
+ * driver station. The robot is enabled in teleop and every frame of the log
+ * runs the scheduler once at its recorded time, as fast as possible. Given
+ * the log's base name all of its segments are replayed in order, given a
+ * segment the replay starts there.
+ *
+ * <p>
+ * Run with {@code ./gradlew replayLog -Plog=SyncLog-a}
+ */
+public final class Replay {
+	private Replay() {
+	}
+
+	public static void main(String... args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("Usage: Replay <log name, like SyncLog-a, or a segment, like SyncLog-a-001.bin.gz>");
+			return;
+		}
+
+		if (!HAL.initialize(500, 0)) {
+			System.out.println("Could not initialize the HAL");
+			return;
+		}
+
+		// the log has to be open before the robot code so inputs read from it
+		LogReplay replay = LogReplay.open(args[0]);
+
+		DriverStationSim driverStation = new DriverStationSim();
+		driverStation.setDsAttached(true);
+		driverStation.setAutonomous(false);
+		driverStation.setEnabled(true);
+		driverStation.notifyNewData();
+
+		RobotContainer robotContainer = new RobotContainer();
+		robotContainer.teleopInit();
+
+		long start = System.nanoTime();
+		int frames = 0;
+
+		while (replay.step()) {
+			frames++;
+		}
+
+		double elapsed = (System.nanoTime() - start) / 1e9;
+		System.out.println(String.format(
+			"Replayed %d frames, %.1f s of log in %.1f s",
+			frames,
+			replay.getTime() / 1e6,
+			elapsed
+		));
+
+		replay.close();
+
+		// the HAL leaves non daemon threads running
+		System.exit(0);
+	}
+}
@@ -3,6 +3,8 @@ package frc.robot;
 import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.diagnostics.LoopWatchdog;
+import frc.robot.utilities.SensorSnapshot;
 
 /**
  * The VM is configured to automatically run this class, and to call the
@@ -16,6 +18,9 @@ public class Robot extends TimedRobot {
 
 	private RobotContainer m_robotContainer;
 
+	private LoopWatchdog m_loopWatchdog;
+	private SensorSnapshot m_sensorSnapshot;
+
 	/**
 	 * This function is run when the robot is first started up and should be used
 	 * for any initialization code.
@@ -26,6 +31,8 @@ public class Robot extends TimedRobot {
 		// and put our
 		// autonomous chooser on the dashboard.
 		m_robotContainer = new RobotContainer();
+		m_loopWatchdog = m_robotContainer.getLoopWatchdog();
+		m_sensorSnapshot = SensorSnapshot.getInstance();
 	}
 
 	/**
@@ -46,7 +53,19 @@ public class Robot extends TimedRobot {
 		// and running subsystem periodic() methods. This must be called from the
 		// robot's periodic
 		// block in order for anything in the Command-based framework to work.
+		// The watchdog times it to catch and break down overruns.
+		m_loopWatchdog.startLoop();
+		// Sensors are read once here, everything after uses the same values.
+		m_sensorSnapshot.update();
 		CommandScheduler.getInstance().run();
+		m_loopWatchdog.endLoop();
+	}
+
+	/**
+	 * @return the robot's subsystems and commands, made in robotInit()
+	 */
+	public RobotContainer getRobotContainer() {
+		return m_robotContainer;
 	}
 
 	/**
@@ -5,6 +5,7 @@ import com.revrobotics.ColorSensorV3;
 import edu.wpi.first.wpilibj.Compressor;
 import edu.wpi.first.wpilibj.DoubleSolenoid;
 import edu.wpi.first.wpilibj.Solenoid;
+import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj.I2C.Port;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
@@ -12,6 +13,10 @@ import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.ParallelCommandGroup;
 import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
 import edu.wpi.first.wpilibj2.command.StartEndCommand;
+import frc.robot.diagnostics.CANBusMonitor;
+import frc.robot.diagnostics.GCMonitor;
+import frc.robot.diagnostics.LoopWatchdog;
+import frc.robot.diagnostics.SchedulerProfiler;
 import frc.robot.logging.SyncLogger;
 import frc.robot.oi.ControllerDriver;
 import frc.robot.oi.JoystickDriver;
@@ -40,6 +45,7 @@ import frc.robot.commands.intake.SetUp;
 import frc.robot.devices.LEDs;
 import frc.robot.devices.LEDs.LEDRange;
 import frc.robot.devices.Lemonlight;
+import frc.robot.devices.PowerDistribution;
 
 /**
  * This class is where the bulk of the robot should be declared. Since
@@ -53,6 +59,10 @@ public class RobotContainer {
     private CommandScheduler scheduler;
 
     private SyncLogger logger;
+    private SchedulerProfiler profiler;
+    private LoopWatchdog watchdog;
+    private CANBusMonitor canMonitor;
+    private GCMonitor gcMonitor;
 
     private ControllerDriver controller1;
     private LaunchpadDriver launchpad;
@@ -60,6 +70,7 @@ public class RobotContainer {
 
     private LEDs leds;
     private Compressor compressor;
+    private PowerDistribution pdp;
 
     private Drivetrain drivetrain;
     private Shifter shifter;
@@ -96,6 +107,10 @@ public class RobotContainer {
         compressor = new Compressor(Ports.PCM_1);
         compressor.setClosedLoopControl(true);
 
+        pdp = new PowerDistribution();
+        canMonitor = new CANBusMonitor();
+        gcMonitor = new GCMonitor();
+
         drivetrain = new Drivetrain();
         shifter = new Shifter(shifterRange);
         conveyor = new Conveyor();
@@ -116,8 +131,25 @@ public class RobotContainer {
         setDefaultCommands();
         configureButtonBindings();
 
-        logger.addElements(drivetrain, shifter);
-        // scheduler.setDefaultCommand(logger, logger);
+        profiler = new SchedulerProfiler(
+            leds,
+            drivetrain,
+            shifter,
+            conveyor,
+            intakeArm,
+            leftArm,
+            rightArm,
+            climberPneumatics,
+            canMonitor,
+            gcMonitor
+        );
+
+        watchdog = new LoopWatchdog(TimedRobot.kDefaultPeriod, profiler, logger);
+
+        logger.addElements(drivetrain, shifter, pdp, canMonitor, gcMonitor, profiler, watchdog);
+        // logs every loop while enabled, the writer keeps file io off this thread.
+        // Each enable starts a new log.
+        scheduler.setDefaultCommand(logger, logger);
 
         autoInit = new ParallelCommandGroup(
             new InstantCommand(climberPneumatics::extendClimb),
@@ -216,6 +248,20 @@ public class RobotContainer {
 
     }
 
+    /**
+     * @return the watchdog to wrap each robot loop in
+     */
+    public LoopWatchdog getLoopWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * @return the drivetrain
+     */
+    public Drivetrain getDrivetrain() {
+        return drivetrain;
+    }
+
     /**
      * runs when robot is inited to telyop
      */
@@ -5,7 +5,8 @@ import frc.robot.oi.LoggerAxis;
 import frc.robot.subsystems.ClimberArm;
 import frc.robot.subsystems.ClimberPneumatics;
 import frc.robot.utilities.Functions;
-import frc.robot.utilities.RollingAverage;
+import frc.robot.utilities.filters.Filter;
+import frc.robot.utilities.filters.MovingAverage;
 
 public class TrimArm extends CommandBase {
 
@@ -15,13 +16,13 @@ public class TrimArm extends CommandBase {
 	private double startingPosition;
 	private double sliderOffset;
 
-	private RollingAverage average;
+	private Filter average;
 
 	public TrimArm(ClimberArm arm, LoggerAxis slider) {
 		this.arm = arm;
 		this.slider = slider;
 
-		average = new RollingAverage(8);
+		average = new MovingAverage(8);
 
 		addRequirements(arm);
 	}
@@ -30,13 +31,12 @@ public class TrimArm extends CommandBase {
 	public void initialize() {
 		startingPosition = arm.getEncoderPosition();
 		sliderOffset = slider.get();
+		average.reset();
 	}
 
 	@Override
 	public void execute() {
-		average.update(slider.get() - sliderOffset);
-
-		double target = average.getAverage();
+		double target = average.calculate(slider.get() - sliderOffset);
 		target = (150 * target) + startingPosition;
 
 		double currentPosition = arm.getEncoderPosition();
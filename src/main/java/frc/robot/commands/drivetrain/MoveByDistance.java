@@ -17,10 +17,6 @@ public class MoveByDistance extends CommandBase {
     private double left, right;
     private double leftRotations, rightRotations;
 
-    private final double wheelDiameter = 6;
-    private final double lowGearRatio = 19.61 / 1;
-    private final double highGearRatio = 9.07 / 1;
-
     private Drivetrain drive;
     private Shifter shifter;
 
@@ -42,12 +38,12 @@ public class MoveByDistance extends CommandBase {
     @Override
     public void initialize() {
         if (shifter.getShiftState()) {
-            rightRotations = ((wheelDiameter * Math.PI) * right) * highGearRatio;
-            leftRotations = (wheelDiameter * Math.PI) * highGearRatio * left;
+            rightRotations = ((Drivetrain.WHEEL_DIAMETER * Math.PI) * right) * Shifter.HIGH_GEAR_RATIO;
+            leftRotations = (Drivetrain.WHEEL_DIAMETER * Math.PI) * Shifter.HIGH_GEAR_RATIO * left;
 
         } else {
-            rightRotations = (wheelDiameter * Math.PI) * lowGearRatio * right;
-            leftRotations = (wheelDiameter * Math.PI) * lowGearRatio * left;
+            rightRotations = (Drivetrain.WHEEL_DIAMETER * Math.PI) * Shifter.LOW_GEAR_RATIO * right;
+            leftRotations = (Drivetrain.WHEEL_DIAMETER * Math.PI) * Shifter.LOW_GEAR_RATIO * left;
         }
     }
 
@@ -1,10 +1,10 @@
 package frc.robot.commands.turret;
 
-import edu.wpi.first.wpilibj.controller.PIDController;
 import edu.wpi.first.wpilibj2.command.CommandBase;
 import frc.robot.devices.Lemonlight;
 import frc.robot.devices.Lidar;
 import frc.robot.devices.Lemonlight.LEDModes;
+import frc.robot.devices.TargetSnapshot;
 import frc.robot.subsystems.Turret;
 
 public class OffsetVisionTarget extends CommandBase {
@@ -13,28 +13,20 @@ public class OffsetVisionTarget extends CommandBase {
 	private Lemonlight limelight;
 	private Lidar lidar;
 
-	private PIDController pidController;
-
-	//TODO - make right
-	private static final double
-	P = 0,
-	I = 0,
-	D = 0;
+	// arrival time of the last frame aimed at
+	private long lastFrame;
 
 	public OffsetVisionTarget(Turret turret, Lemonlight limelight, Lidar lidar) {
 		this.turret = turret;
 		this.limelight = limelight;
 		this.lidar = lidar;
 
-		pidController = new PIDController(P, I, D);
-
 		addRequirements(turret);
 	}
 
 	@Override
 	public void initialize() {
-		pidController.setSetpoint(getSetpoint());
-		pidController.reset();
+		lastFrame = 0;
 
 		limelight.setPipeline(0);
 		limelight.setLEDMode(LEDModes.FORCE_ON);
@@ -42,16 +34,20 @@ public class OffsetVisionTarget extends CommandBase {
 
 	@Override
 	public void execute() {
-		if (limelight.hasTarget()) {
-			double offset = limelight.getHorizontalOffset();
-			pidController.setSetpoint(getSetpoint());
+		TargetSnapshot target = limelight.getSnapshot();
+
+		// holds still until aiming is calibrated, see Turret.AIMING_ENABLED
+		if (target.hasTarget() && Turret.AIMING_ENABLED) {
+			if (target.getTimestamp() != lastFrame) {
+				lastFrame = target.getTimestamp();
 
-			double power = pidController.calculate(offset);
-			turret.setPower(power);
+				double offset = target.getHorizontalOffset() - getSetpoint();
+				turret.setTarget(turret.getTargetPosition(offset, target.getCaptureTimestamp()));
+			}
 
 		} else {
 			turret.setPower(0);
-			pidController.reset();
+			lastFrame = 0;
 		}
 	}
 
@@ -69,7 +65,7 @@ public class OffsetVisionTarget extends CommandBase {
 		double setpoint;
 
 		setpoint = - ((double) Lemonlight.X_OFFSET / lidar.getAverageDistance());
-		setpoint = Math.atan(setpoint);
+		setpoint = Math.toDegrees(Math.atan(setpoint));
 
 		return setpoint;
 	}
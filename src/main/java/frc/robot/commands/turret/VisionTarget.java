@@ -1,53 +1,50 @@
 package frc.robot.commands.turret;
 
-import edu.wpi.first.wpilibj.controller.PIDController;
 import edu.wpi.first.wpilibj2.command.CommandBase;
 import frc.robot.devices.Lemonlight;
 import frc.robot.devices.Lemonlight.LEDModes;
+import frc.robot.devices.TargetSnapshot;
 import frc.robot.subsystems.Turret;
 
 /**
- * Command to vision align the turret
+ * Command to vision align the turret. Each new frame is turned into an encoder
+ * position using where the turret was when the image was taken, and the turret
+ * holds that position until the next frame.
  */
 public class VisionTarget extends CommandBase {
 
 	private Turret turret;
 	private Lemonlight limelight;
 
-	private PIDController pidController;
-
-	//TODO - Make right
-	private final static double
-	P = 0,
-	I = 0,
-	D = 0;
+	// arrival time of the last frame aimed at
+	private long lastFrame;
 
 	public VisionTarget(Turret turret, Lemonlight limelight) {
 		this.turret = turret;
 		this.limelight = limelight;
 
-		pidController = new PIDController(P, I, D);
-
 		addRequirements(turret);
 	}
 
 	public void initialize() {
-		pidController.setSetpoint(0);
 		limelight.setPipeline(0);
 		limelight.setLEDMode(LEDModes.FORCE_ON);
-		pidController.reset();
+		lastFrame = 0;
 	}
 
 	public void execute() {
-		if (limelight.hasTarget()) {
-			double offset = limelight.getHorizontalOffset();
+		TargetSnapshot target = limelight.getSnapshot();
 
-			double power = pidController.calculate(offset);
-			turret.setPower(power);
+		// holds still until aiming is calibrated, see Turret.AIMING_ENABLED
+		if (target.hasTarget() && Turret.AIMING_ENABLED) {
+			if (target.getTimestamp() != lastFrame) {
+				lastFrame = target.getTimestamp();
+				turret.setTarget(turret.getTargetPosition(target.getHorizontalOffset(), target.getCaptureTimestamp()));
+			}
 
 		} else {
 			turret.setPower(0);
-			pidController.reset();
+			lastFrame = 0;
 		}
 	}
 
@@ -58,4 +55,4 @@ public class VisionTarget extends CommandBase {
 	public boolean isFinished() {
 		return false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package frc.robot.devices;
+
+import com.revrobotics.CANEncoder;
+import com.revrobotics.CANPIDController;
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.ControlType;
+
+import edu.wpi.first.hal.SimDevice;
+import edu.wpi.first.hal.SimDouble;
+
+/**
+ * A {@link CANSparkMax} that doesn't resend unchanged commands, see
+ * {@link WriteCache}. Closed loop commands should go through
+ * {@link #setReference(double, ControlType)} rather than the pid controller so
+ * they share the cache with {@link #set(double)}.
+ *
+ * <p>
+ * In simulation the spark shows up as a sim device with its control mode
+ * (a {@link ControlType} ordinal), setpoint and applied output, and the encoder
+ * is read from the device's position and velocity, which a simulated
+ * mechanism can set.
+ */
+public class CachedSparkMax extends CANSparkMax {
+
+    private final WriteCache cache;
+    private final CANPIDController pidController;
+    private final CANEncoder encoder;
+
+    // null when running on a robot
+    private final SimDevice simDevice;
+    private SimDouble simMode, simSetpoint, simOutput, simPosition, simVelocity;
+
+    /**
+     * @param id the can id of the spark
+     * @param type the type of motor connected
+     */
+    public CachedSparkMax(int id, MotorType type) {
+        this(id, type, WriteCache.DEFAULT_KEEP_ALIVE);
+    }
+
+    /**
+     * @param id the can id of the spark
+     * @param type the type of motor connected
+     * @param keepAlive how long an unchanged command is held back in seconds
+     */
+    public CachedSparkMax(int id, MotorType type, double keepAlive) {
+        super(id, type);
+
+        cache = new WriteCache(keepAlive);
+        pidController = getPIDController();
+        encoder = getEncoder();
+
+        simDevice = SimDevice.create("SPARK MAX", id);
+
+        if (simDevice != null) {
+            simMode = simDevice.createDouble("Control Mode", true, ControlType.kDutyCycle.ordinal());
+            simSetpoint = simDevice.createDouble("Setpoint", true, 0);
+            simOutput = simDevice.createDouble("Applied Output", true, 0);
+            simPosition = simDevice.createDouble("Position", false, 0);
+            simVelocity = simDevice.createDouble("Velocity", false, 0);
+        }
+    }
+
+    /**
+     * Sets the power of the motor if it changed
+     *
+     * @param speed -1 - 1
+     */
+    @Override
+    public void set(double speed) {
+        // set is a duty cycle reference, so it shares a mode with setReference
+        if (cache.shouldWrite(ControlType.kDutyCycle.ordinal(), speed)) {
+            super.set(speed);
+
+            if (simDevice != null) {
+                simMode.set(ControlType.kDutyCycle.ordinal());
+                simSetpoint.set(speed);
+                simOutput.set(speed);
+            }
+        }
+    }
+
+    /**
+     * Sets the closed loop target of the motor if it changed
+     *
+     * @param value the target, in the units of the control type
+     * @param type the control type
+     */
+    public void setReference(double value, ControlType type) {
+        if (cache.shouldWrite(type.ordinal(), value)) {
+            pidController.setReference(value, type);
+
+            if (simDevice != null) {
+                simMode.set(type.ordinal());
+                simSetpoint.set(value);
+            }
+        }
+    }
+
+    /**
+     * @return the encoder position in rotations
+     */
+    public double getEncoderPosition() {
+        return simDevice != null ? simPosition.get() : encoder.getPosition();
+    }
+
+    /**
+     * @return the encoder velocity in rpm
+     */
+    public double getEncoderVelocity() {
+        return simDevice != null ? simVelocity.get() : encoder.getVelocity();
+    }
+
+    /**
+     * Sets what the encoder reads at its current position
+     *
+     * @param position the position in rotations
+     */
+    public void setEncoderPosition(double position) {
+        encoder.setPosition(position);
+
+        if (simDevice != null) {
+            simPosition.set(position);
+        }
+    }
+
+    @Override
+    public void stopMotor() {
+        cache.invalidate();
+        super.stopMotor();
+
+        if (simDevice != null) {
+            simMode.set(ControlType.kDutyCycle.ordinal());
+            simSetpoint.set(0);
+            simOutput.set(0);
+        }
+    }
+
+    @Override
+    public void disable() {
+        cache.invalidate();
+        super.disable();
+    }
+
+    /**
+     * @return the number of commands skipped because they were unchanged
+     */
+    public long getWritesSaved() {
+        return cache.getWritesSaved();
+    }
+
+    /**
+     * @return the number of commands sent
+     */
+    public long getWritesSent() {
+        return cache.getWritesSent();
+    }
+}
@@ -0,0 +1,102 @@
+package frc.robot.devices;
+
+import com.ctre.phoenix.motorcontrol.ControlMode;
+import com.ctre.phoenix.motorcontrol.DemandType;
+import com.ctre.phoenix.motorcontrol.can.VictorSPX;
+
+import edu.wpi.first.hal.SimDevice;
+import edu.wpi.first.hal.SimDouble;
+
+/**
+ * A {@link VictorSPX} that doesn't resend unchanged commands, see
+ * {@link WriteCache}. In simulation the victor shows up as a sim device with
+ * its percent output.
+ */
+public class CachedVictorSPX extends VictorSPX {
+
+    private final WriteCache cache;
+
+    // null when running on a robot
+    private final SimDevice simDevice;
+    private SimDouble simOutput;
+
+    /**
+     * @param id the can id of the victor
+     */
+    public CachedVictorSPX(int id) {
+        this(id, WriteCache.DEFAULT_KEEP_ALIVE);
+    }
+
+    /**
+     * @param id the can id of the victor
+     * @param keepAlive how long an unchanged command is held back in seconds
+     */
+    public CachedVictorSPX(int id, double keepAlive) {
+        super(id);
+
+        cache = new WriteCache(keepAlive);
+
+        simDevice = SimDevice.create("VictorSPX", id);
+
+        if (simDevice != null) {
+            simOutput = simDevice.createDouble("Motor Output", true, 0);
+        }
+    }
+
+    /**
+     * Sends a command to the victor if it changed
+     *
+     * @param mode the control mode
+     * @param value the setpoint, in the units of the control mode
+     */
+    @Override
+    public void set(ControlMode mode, double value) {
+        set(mode, value, DemandType.Neutral, 0);
+    }
+
+    /**
+     * Sends a command to the victor if it changed. Phoenix sends every command
+     * through here, so this is where they are cached.
+     */
+    @Override
+    public void set(ControlMode mode, double demand0, DemandType demand1Type, double demand1) {
+        // commands with a second demand aren't cached
+        if (demand1Type != DemandType.Neutral) {
+            cache.invalidate();
+            super.set(mode, demand0, demand1Type, demand1);
+            return;
+        }
+
+        if (cache.shouldWrite(mode.ordinal(), demand0)) {
+            super.set(mode, demand0, demand1Type, demand1);
+
+            if (simDevice != null && mode == ControlMode.PercentOutput) {
+                simOutput.set(demand0);
+            }
+        }
+    }
+
+    @Override
+    public void neutralOutput() {
+        cache.invalidate();
+        super.neutralOutput();
+
+        if (simDevice != null) {
+            simOutput.set(0);
+        }
+    }
+
+    /**
+     * @return the number of commands skipped because they were unchanged
+     */
+    public long getWritesSaved() {
+        return cache.getWritesSaved();
+    }
+
+    /**
+     * @return the number of commands sent
+     */
+    public long getWritesSent() {
+        return cache.getWritesSent();
+    }
+}
@@ -7,6 +7,7 @@
 
 package frc.robot.devices;
 
+import java.util.Arrays;
 import java.util.HashMap;
 
 import edu.wpi.first.wpilibj.AddressableLED;
@@ -14,27 +15,61 @@ import edu.wpi.first.wpilibj.AddressableLEDBuffer;
 import edu.wpi.first.wpilibj.util.Color8Bit;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
 
+/**
+ * Controls the led strip. Colors are written to {@link Layer}s, and each led
+ * shows the highest layer that has a color for it. Writes only mark which leds
+ * changed; the strip is sent at most once a loop, from periodic(), and only if
+ * something changed.
+ */
 public class LEDs extends SubsystemBase {
 
     private final int port = 9; //pwm port the strip is pluged into
     private final int length = 29; //the length of the strip
 
+    // a led with no color on a layer
+    private static final int NONE = -1;
+
+    /**
+     * Layers from lowest to highest priority
+     */
+    public enum Layer {
+        STATUS,
+        BLINKERS,
+        ANIMATIONS
+    }
+
     private AddressableLED ledStrip;
     private AddressableLEDBuffer buffer;
 
+    // packed rgb colors for each layer and led
+    private int[][] layers;
+
+    // leds changed since the strip was last sent, dirtyStart > dirtyEnd when clean
+    private int dirtyStart, dirtyEnd;
+
     private HashMap<String, LEDBlinker> blinkers;
+    private HashMap<String, LEDAnimation> animations;
 
     public LEDs(){
         ledStrip = new AddressableLED(port);
         buffer = new AddressableLEDBuffer(length);
         blinkers = new HashMap<>();
+        animations = new HashMap<>();
+
+        layers = new int[Layer.values().length][length];
+        for (int[] layer : layers) {
+            Arrays.fill(layer, NONE);
+        }
+
+        dirtyStart = length;
+        dirtyEnd = -1;
 
         ledStrip.setLength(length);
         ledStrip.start();
     }
 
     /**
-     * changes a range of leds
+     * changes a range of leds on the status layer
      * @param r red 0-255
      * @param g green 0-255
      * @param b blue 0-255
@@ -42,10 +77,35 @@ public class LEDs extends SubsystemBase {
      * @param end led to end change at
      */
     public void changeLEDRange(int r, int g, int b, int start, int end){
+        changeLEDRange(Layer.STATUS, pack(r, g, b), start, end);
+    }
+
+    /**
+     * changes a range of leds on a layer, the strip is updated at the end of the loop
+     * @param layer the layer to change
+     * @param color packed rgb color, or NONE to let lower layers show
+     * @param start led to start change at
+     * @param end led to end change at
+     */
+    private void changeLEDRange(Layer layer, int color, int start, int end){
+        int[] leds = layers[layer.ordinal()];
+
         for(int i = start; i<=end; i++){
-            buffer.setRGB(i, r, g, b);
+            if (leds[i] != color) {
+                leds[i] = color;
+                markDirty(i, i);
+            }
         }
-        ledStrip.setData(buffer);
+    }
+
+    /**
+     * clears a range of leds on a layer so the layers under it show
+     * @param layer the layer to clear
+     * @param start led to start at
+     * @param end led to end at
+     */
+    public void clearLEDRange(Layer layer, int start, int end){
+        changeLEDRange(layer, NONE, start, end);
     }
 
     /**
@@ -59,13 +119,24 @@ public class LEDs extends SubsystemBase {
     }
 
     /**
-     * gets a controler to controle a range of leds
+     * gets a controler to controle a range of leds on the status layer
      * @param start led to start at
      * @param end led to end at
      * @return usable led range controler
      */
     public LEDRange getRangeController(int start, int end){
-        return (Color8Bit color) -> changeLEDRange(color.red, color.green, color.blue, start, end);
+        return getRangeController(Layer.STATUS, start, end);
+    }
+
+    /**
+     * gets a controler to controle a range of leds on a layer
+     * @param layer the layer to draw on
+     * @param start led to start at
+     * @param end led to end at
+     * @return usable led range controler
+     */
+    public LEDRange getRangeController(Layer layer, int start, int end){
+        return (Color8Bit color) -> changeLEDRange(layer, pack(color), start, end);
     }
 
         /**
@@ -73,7 +144,7 @@ public class LEDs extends SubsystemBase {
      * @return usable led range controler
      */
     public LEDRange getAllLedsRangeController(){
-        return (Color8Bit color) -> changeLEDRange(color.red, color.green, color.blue, 0, length-1);
+        return getRangeController(0, length-1);
     }
 
     /**
@@ -99,16 +170,12 @@ public class LEDs extends SubsystemBase {
     }
 
     /**
-     * adds a ledrange to be blinked
+     * adds a ledrange to be blinked, use a range on the blinkers layer to blink
+     * over status colors
      * @param range the range to blink
      * @param period the multipul of 20ms the leds should blink at
      * @param name the name of the blinker
-     * @param r1 red in state 1 0-255
-     * @param g1 green in state 1 0-255
-     * @param b1 blue in state 1 0-255
-     * @param r2 red in state 2 0-255
-     * @param g2 green in state 2 0-255
-     * @param b2 blue in state 2 0-255
+     * @param colors the colors to cycle through
      */
     public void addBlinker(String name, LEDRange range, int period, Color8Bit... colors){
         blinkers.put(name, new LEDBlinker(range, period, colors));
@@ -119,11 +186,82 @@ public class LEDs extends SubsystemBase {
     }
 
     /**
-     * used to make leds blink
+     * adds an animation on the animations layer. the frames are worked out
+     * here, playing it only copies them
+     * @param name the name of the animation
+     * @param start led the animation starts at
+     * @param period the multipul of 20ms each frame is shown for
+     * @param frames the color of each led in each frame
+     */
+    public void addAnimation(String name, int start, int period, Color8Bit[]... frames){
+        int[][] packed = new int[frames.length][];
+
+        for (int i = 0; i < frames.length; i++) {
+            packed[i] = new int[frames[i].length];
+
+            for (int j = 0; j < frames[i].length; j++) {
+                packed[i][j] = pack(frames[i][j]);
+            }
+        }
+
+        removeAnimation(name);
+        animations.put(name, new LEDAnimation(start, period, packed));
+    }
+
+    /**
+     * removes an animation and clears its leds
+     * @param name the name of the animation
+     */
+    public void removeAnimation(String name){
+        LEDAnimation animation = animations.remove(name);
+
+        if (animation != null) {
+            animation.clear();
+        }
+    }
+
+    /**
+     * used to make leds blink and animate, then sends the strip if anything changed
      */
     @Override
     public void periodic(){
         blinkers.forEach((k, v) -> v.increment());
+        animations.forEach((k, v) -> v.increment());
+
+        if (dirtyStart > dirtyEnd) {
+            return;
+        }
+
+        for (int i = dirtyStart; i <= dirtyEnd; i++) {
+            int color = 0;
+
+            for (int layer = layers.length - 1; layer >= 0; layer--) {
+                if (layers[layer][i] != NONE) {
+                    color = layers[layer][i];
+                    break;
+                }
+            }
+
+            buffer.setRGB(i, (color >> 16) & 0xFF, (color >> 8) & 0xFF, color & 0xFF);
+        }
+
+        ledStrip.setData(buffer);
+
+        dirtyStart = length;
+        dirtyEnd = -1;
+    }
+
+    private void markDirty(int start, int end) {
+        dirtyStart = Math.min(dirtyStart, start);
+        dirtyEnd = Math.max(dirtyEnd, end);
+    }
+
+    private static int pack(int r, int g, int b) {
+        return (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+    }
+
+    private static int pack(Color8Bit color) {
+        return pack(color.red, color.green, color.blue);
     }
 
     /**
@@ -161,4 +299,44 @@ public class LEDs extends SubsystemBase {
             }
         }
     }
+
+    /**
+     * animation class to store precomputed frames
+     */
+    public class LEDAnimation {
+        private int start, period;
+        private int[][] frames;
+
+        private int count, position;
+
+        public LEDAnimation(int start, int period, int[][] frames) {
+            this.start = start;
+            this.period = period;
+            this.frames = frames;
+
+            count = 0;
+            position = 0;
+            show();
+        }
+
+        public void increment() {
+            count = (count + 1) % period;
+
+            if (count == 0) {
+                position = (position + 1) % frames.length;
+                show();
+            }
+        }
+
+        private void show() {
+            int[] frame = frames[position];
+
+            System.arraycopy(frame, 0, layers[Layer.ANIMATIONS.ordinal()], start, frame.length);
+            markDirty(start, start + frame.length - 1);
+        }
+
+        private void clear() {
+            clearLEDRange(Layer.ANIMATIONS, start, start + frames[position].length - 1);
+        }
+    }
 }
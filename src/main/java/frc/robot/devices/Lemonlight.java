@@ -1,22 +1,52 @@
 package frc.robot.devices;
 
+import edu.wpi.first.networktables.EntryListenerFlags;
+import edu.wpi.first.networktables.EntryNotification;
 import edu.wpi.first.networktables.NetworkTable;
 import edu.wpi.first.networktables.NetworkTableEntry;
 import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.RobotController;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 
 /**
- * Device driver for the limelight
+ * Device driver for the limelight. Targeting data is pushed by NetworkTables
+ * listeners into a {@link TargetSnapshot}, so reading it never touches
+ * NetworkTables and every value read from one snapshot is from the same frame.
+ *
+ * <p>
+ * The limelight sends a frame's entries together, and only the ones that
+ * changed notify. Updates that arrive within {@link #FRAME_WINDOW} of each
+ * other are put together into one frame, and entries that didn't change keep
+ * their value from the frame before. A frame becomes the snapshot once the
+ * next frame starts arriving, or once it has been quiet for the window, so
+ * each frame makes exactly one snapshot.
  */
 public class Lemonlight implements Logger {
 
     //TODO - make right
     public static final int X_OFFSET = 0;
 
+    // updates closer together than this in microseconds are from the same
+    // frame, the limelight sends frames at most every 10 ms
+    private static final long FRAME_WINDOW = 3000;
+
+    // where each targeting entry is kept in a frame
+    private static final int TV = 0, TX = 1, TY = 2, TA = 3, TL = 4, FRAME_SIZE = 5;
+
     NetworkTable limelight;
 
-    NetworkTableEntry tv, tx, ty, ta, ledMode, camMode, pipeline;
+    NetworkTableEntry tv, tx, ty, ta, tl, cl, ledMode, camMode, pipeline;
+
+    // replaced whole when a frame is finished
+    private volatile TargetSnapshot snapshot = TargetSnapshot.EMPTY;
+
+    // the frame being put together, guarded by frameLock. NetworkTables times
+    // are fpga times, so they can be compared with the robot's clock.
+    private final Object frameLock = new Object();
+    private final double[] frame = new double[FRAME_SIZE];
+    private long frameStart, frameLast;
+    private boolean framePending;
 
     public Lemonlight() {
         limelight = NetworkTableInstance.getDefault().getTable("limelight");
@@ -25,6 +55,16 @@ public class Lemonlight implements Logger {
         tx = limelight.getEntry("tx");
         ty = limelight.getEntry("ty");
         ta = limelight.getEntry("ta");
+        tl = limelight.getEntry("tl");
+        cl = limelight.getEntry("cl");
+
+        int flags = EntryListenerFlags.kImmediate | EntryListenerFlags.kNew | EntryListenerFlags.kUpdate;
+
+        tv.addListener(notification -> update(TV, notification), flags);
+        tx.addListener(notification -> update(TX, notification), flags);
+        ty.addListener(notification -> update(TY, notification), flags);
+        ta.addListener(notification -> update(TA, notification), flags);
+        tl.addListener(notification -> update(TL, notification), flags);
 
         ledMode = limelight.getEntry("ledMode");
         camMode = limelight.getEntry("camMode");
@@ -95,40 +135,99 @@ public class Lemonlight implements Logger {
         pipeline.setDouble(pipe);
     }
 
+    /**
+     * Gets the latest frame. Read it once and use it for the whole loop, so
+     * every value comes from the same frame.
+     *
+     * @return the latest targeting data
+     */
+    public TargetSnapshot getSnapshot() {
+        synchronized (frameLock) {
+            // the last frame is done once nothing has arrived for the window
+            if (framePending && RobotController.getFPGATime() - frameLast > FRAME_WINDOW) {
+                finishFrame();
+            }
+        }
+
+        return snapshot;
+    }
+
     /**
      * @return if limelight has a target
      */
     public boolean hasTarget() {
-        return tv.getDouble(0) == 1;
+        return getSnapshot().hasTarget();
     }
 
     /**
      * @return the horizontal offset
      */
     public double getHorizontalOffset() {
-        return tx.getDouble(0);
+        return getSnapshot().getHorizontalOffset();
     }
 
     /**
      * @return the vertical offset
      */
     public double getVerticalOffset() {
-        return ty.getDouble(0);
+        return getSnapshot().getVerticalOffset();
     }
 
     /**
      * @return the percentage of area
      */
     public double getAreaPercentage() {
-        return ta.getDouble(0);
+        return getSnapshot().getAreaPercentage();
+    }
+
+    /**
+     * Adds an entry's update to the frame it arrived with. Runs on the
+     * NetworkTables listener thread.
+     */
+    private void update(int index, EntryNotification notification) {
+        long time = notification.value.getTime();
+
+        synchronized (frameLock) {
+            // an update after a gap starts the next frame, so the last one is done
+            if (framePending && time - frameLast > FRAME_WINDOW) {
+                finishFrame();
+            }
+
+            if (!framePending) {
+                framePending = true;
+                frameStart = time;
+            }
+
+            frame[index] = notification.value.getDouble();
+            frameLast = time;
+        }
+    }
+
+    /**
+     * Makes the pending frame the snapshot. Must hold frameLock.
+     */
+    private void finishFrame() {
+        snapshot = new TargetSnapshot(
+            frame[TV] == 1,
+            frame[TX],
+            frame[TY],
+            frame[TA],
+            frame[TL],
+            cl.getDouble(TargetSnapshot.DEFAULT_CAPTURE_LATENCY),
+            frameStart
+        );
+
+        framePending = false;
     }
 
     //logging
     @Override
     public double[] getValues(double[] values) {
-        values[LoggerRelations.LEMONLIGHT_HAS_TARGET.value] = (hasTarget()) ? 1 : 0;
-        values[LoggerRelations.LEMONLIGHT_X_OFF.value] = getHorizontalOffset();
-        values[LoggerRelations.LEMONLIGHT_Y_OFF.value] = getVerticalOffset();     
+        TargetSnapshot target = getSnapshot();
+
+        values[LoggerRelations.LEMONLIGHT_HAS_TARGET.value] = (target.hasTarget()) ? 1 : 0;
+        values[LoggerRelations.LEMONLIGHT_X_OFF.value] = target.getHorizontalOffset();
+        values[LoggerRelations.LEMONLIGHT_Y_OFF.value] = target.getVerticalOffset();     
         return values;
     }
 }
\ No newline at end of file
@@ -3,4 +3,9 @@ package frc.robot.devices;
 public interface Lidar {
 	public int getDistance();
 	public int getAverageDistance();
-}
\ No newline at end of file
+
+	/**
+	 * @return the fpga time the most recent distance was read at in microseconds
+	 */
+	public long getTimestamp();
+}
@@ -4,32 +4,46 @@ import java.nio.ByteBuffer;
 
 import edu.wpi.first.hal.I2CJNI;
 import edu.wpi.first.wpilibj.I2C.Port;
-import frc.robot.utilities.RollingAverage;;
+import frc.robot.utilities.filters.Filter;
+import frc.robot.utilities.filters.MovingAverage;
 
 /**
- * Device to manage the Lidar3
+ * Device to manage the Lidar3. Readings are taken in the background, see
+ * {@link PolledLidar}.
  */
-public class LidarV3 implements Lidar {
+public class LidarV3 extends PolledLidar {
 
-	private RollingAverage rollingAverage;
+	// the lidar measures at about 100 Hz when measuring continuously
+	private static final double MEASUREMENT_PERIOD = 0.01;
 
     public LidarV3() {
+		this(new MovingAverage(50));
+	}
+
+	/**
+	 * @param filter the filter to smooth readings with
+	 */
+	public LidarV3(Filter filter) {
+		super(MEASUREMENT_PERIOD, filter);
 
         m_port = (byte) Port.kOnboard.value;
 		I2CJNI.i2CInitialize(m_port);
 
-		rollingAverage = new RollingAverage(50);
+		startMeasuring();
+		startPolling();
     }
     
     private static final byte k_deviceAddress = 0x62;
 
 	private final byte m_port;
 
-	private final ByteBuffer m_buffer = ByteBuffer.allocateDirect(2);
+	// each thread gets its own buffer, the polling thread reads and the robot thread configures
+	private final ByteBuffer m_readBuffer = ByteBuffer.allocateDirect(2);
+	private final ByteBuffer m_writeBuffer = ByteBuffer.allocateDirect(2);
 
 	/**
 	 * Tells the lidar to start taking measurements.
-	 * Must be called before geting measurements
+	 * Called when the lidar is made, before polling starts
 	 */
 	public void startMeasuring() {
 		writeRegister(0x04, 0x08 | 32); // default plus bit 5
@@ -45,42 +59,33 @@ public class LidarV3 implements Lidar {
 	}
 
 	/**
-	 * Gets the current distance measurement from the lidar
+	 * Reads the current distance measurement from the lidar
 	 * 
 	 * @return the distance in cm
 	 */
 	@Override
-	public int getDistance() {
-		short value = readShort(0x8f);
-		rollingAverage.update(value);
-
-		return value;
-	}
-
-	/**
-	 * Gets the average distance from the lidar
-	 * 
-	 * @return the average distance in cm
-	 */
-	@Override
-	public int getAverageDistance() {
-		getDistance();
-		return (int) rollingAverage.getAverage();
+	protected int measure() {
+		return readShort(0x8f);
 	}
 
 	// scarey
 	private int writeRegister(int address, int value) {
-		m_buffer.put(0, (byte) address);
-		m_buffer.put(1, (byte) value);
+		// held for the whole transaction so it doesn't interleave with a measurement
+		synchronized (busLock) {
+			m_writeBuffer.put(0, (byte) address);
+			m_writeBuffer.put(1, (byte) value);
 
-		return I2CJNI.i2CWrite(m_port, k_deviceAddress, m_buffer, (byte) 2);
+			return I2CJNI.i2CWrite(m_port, k_deviceAddress, m_writeBuffer, (byte) 2);
+		}
 	}
 
 	// i dont understand how this works
 	private short readShort(int address) {
-		m_buffer.put(0, (byte) address);
-		I2CJNI.i2CWrite(m_port, k_deviceAddress, m_buffer, (byte) 1);
-		I2CJNI.i2CRead(m_port, k_deviceAddress, m_buffer, (byte) 2);
-        return m_buffer.getShort(0);
-    }
+		synchronized (busLock) {
+			m_readBuffer.put(0, (byte) address);
+			I2CJNI.i2CWrite(m_port, k_deviceAddress, m_readBuffer, (byte) 1);
+			I2CJNI.i2CRead(m_port, k_deviceAddress, m_readBuffer, (byte) 2);
+			return m_readBuffer.getShort(0);
+		}
+	}
 }
\ No newline at end of file
@@ -2,84 +2,70 @@ package frc.robot.devices;
 
 import edu.wpi.first.wpilibj.I2C;
 import edu.wpi.first.wpilibj.I2C.Port;
-
-import frc.robot.utilities.RollingAverage;
+import frc.robot.utilities.filters.Filter;
+import frc.robot.utilities.filters.MovingAverage;
 
 /**
- * Class for using the lidar v4
+ * Class for using the lidar v4. Readings are taken in the background, see
+ * {@link PolledLidar}.
  */
-public class LidarV4 implements Lidar {
+public class LidarV4 extends PolledLidar {
+
+	// the lidar can measure at up to about 200 Hz
+	private static final double MEASUREMENT_PERIOD = 0.005;
 
 	private I2C i2c;
-	private int value;
 
-	private RollingAverage rollingAverage;
+	// read buffers, reused by the polling thread
+	private final byte[]
+	status = new byte[1],
+	low = new byte[1],
+	high = new byte[1];
 
 	/**
 	 * constructor
 	 * @param id the i2c id of the lidarv4
 	 */
     public LidarV4(int id) {
+		this(id, new MovingAverage(50));
+	}
+
+	/**
+	 * @param id the i2c id of the lidarv4
+	 * @param filter the filter to smooth readings with
+	 */
+	public LidarV4(int id, Filter filter) {
+		super(MEASUREMENT_PERIOD, filter);
+
 		i2c = new I2C(Port.kOnboard, id);
-		value = 0;
 
-		rollingAverage = new RollingAverage(50);
+		startPolling();
 	}
 
 	/**
 	 * reads the current distance from the lidar if one is avalible
 	 */
-	private void readDistance() {
-		byte[] status = new byte[1];
-
+	@Override
+	protected int measure() {
 		//checks if there is a valid mesurment
 		i2c.read(0x01, 1, status);
 
-		if ((status[0] & 0x01) == 0) {
-			byte[] low = new byte[1];
-			byte[] high = new byte[1];
-
-			//reads distance from lidar
-			i2c.read(0x10, 1, low);
-			i2c.read(0x11, 1, high);
-
-			int out = high[0];
-
-			//fixes java using signed bytes
-			if (out < 0) {
-				out = ((high[0] & 0b01111111) + 128);
-			}
-
-			out = (out << 8);
-			int out2 = low[0];
-
-			if (out2 < 0) {
-				out2 = ((low[0] & 0b01111111) + 128);
-			}
-
-			out = out + out2;
-			
-			//tells lidar to take another measurement
-			i2c.write(0x00, 0x04);
-
-			//prevent bad values
-			if (out < 1000){
-				value = out;
-			}
+		if ((status[0] & 0x01) != 0) {
+			return NO_READING;
 		}
 
-		rollingAverage.update(value);
-	}
+		//reads distance from lidar
+		i2c.read(0x10, 1, low);
+		i2c.read(0x11, 1, high);
 
-	/**
-	 * Gets the most recent distance
-	 * 
-	 * @return the distance in cm
-	 */
-	@Override
-	public int getDistance() {
-		readDistance();
-		return value;
+		//masks off the sign java gives bytes
+		int out = ((high[0] & 0xFF) << 8) + (low[0] & 0xFF);
+		
+		//tells lidar to take another measurement
+		i2c.write(0x00, 0x04);
+
+		//prevent bad values
+		return out < 1000 ? out : NO_READING;
 	}
 
 	/**
@@ -88,6 +74,21 @@ public class LidarV4 implements Lidar {
 	 * @param id the id to change to
 	 */
 	public void changeId(int id){
+		stopPolling();
+
+		//stopping doesn't wait for a measurement already running, the lock does
+		synchronized (busLock) {
+			writeId(id);
+
+			//talks to the lidar at its new address from now on
+			i2c.close();
+			i2c = new I2C(Port.kOnboard, id);
+		}
+
+		startPolling();
+	}
+
+	private void writeId(int id) {
 		//enables flash
 		i2c.write(0xEA, 0x11);
 
@@ -110,15 +111,4 @@ public class LidarV4 implements Lidar {
 		//writes adress
 		i2c.write(0x1B, 0x01);
 	}
-
-	/**
-	 * Gets the average distance
-	 * 
-	 * @return average distance in cm
-	 */
-	@Override
-	public int getAverageDistance() {
-		readDistance();
-		return (int) rollingAverage.getAverage();
-	}
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package frc.robot.devices;
 import com.ctre.phoenix.sensors.PigeonIMU;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
+import frc.robot.logging.SampleRate;
 
 //TODO - gut it
 
@@ -63,4 +64,10 @@ public class PigeonGyro implements Logger {
         values[LoggerRelations.IMU_HEADING.value] = getHeading();
         return values;
     }
+
+    // each value is a CAN read
+    @Override
+    public SampleRate getSampleRate() {
+        return SampleRate.HZ_10;
+    }
 }
\ No newline at end of file
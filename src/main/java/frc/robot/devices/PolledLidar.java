@@ -0,0 +1,134 @@
+package frc.robot.devices;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.RobotController;
+import frc.robot.utilities.filters.Filter;
+
+/**
+ * Base for lidars that are read over I2C. The blocking I2C reads happen on a
+ * {@link Notifier} thread at the lidar's measurement rate, and the latest
+ * reading is published as one immutable {@link Reading}, so {@link Lidar}
+ * calls on the robot thread never touch the bus, and a distance is never
+ * paired with another reading's timestamp.
+ */
+public abstract class PolledLidar implements Lidar {
+
+    // returned by measure() when there is no new reading
+    protected static final int NO_READING = -1;
+
+    // held by the polling thread while it measures, take it to use the bus from another thread
+    protected final Object busLock = new Object();
+
+    private final double period;
+    private final Notifier notifier;
+    private final Filter filter;
+
+    private volatile Reading reading = Reading.NONE;
+
+    /**
+     * @param period how often to read the lidar in seconds
+     * @param filter the filter readings are smoothed with
+     */
+    protected PolledLidar(double period, Filter filter) {
+        this.period = period;
+        this.filter = filter;
+
+        notifier = new Notifier(this::poll);
+    }
+
+    /**
+     * Starts reading the lidar in the background
+     */
+    public void startPolling() {
+        notifier.startPeriodic(period);
+    }
+
+    /**
+     * Stops reading the lidar, the last reading is kept
+     */
+    public void stopPolling() {
+        notifier.stop();
+    }
+
+    /**
+     * Reads a measurement from the lidar. Called on the polling thread.
+     *
+     * @return the distance in cm, or {@link #NO_READING} if there isn't a new one
+     */
+    protected abstract int measure();
+
+    /**
+     * Gets the most recent reading. Use this instead of the separate getters
+     * when more than one value is needed, they can each come from a different
+     * reading.
+     *
+     * @return the reading
+     */
+    public Reading getReading() {
+        return reading;
+    }
+
+    /**
+     * Gets the most recent distance
+     *
+     * @return the distance in cm
+     */
+    @Override
+    public int getDistance() {
+        return reading.distance;
+    }
+
+    /**
+     * Gets the filtered distance
+     *
+     * @return the filtered distance in cm
+     */
+    @Override
+    public int getAverageDistance() {
+        return reading.averageDistance;
+    }
+
+    /**
+     * @return the fpga time the most recent distance was read at in microseconds
+     */
+    @Override
+    public long getTimestamp() {
+        return reading.timestamp;
+    }
+
+    private void poll() {
+        int value;
+        synchronized (busLock) {
+            value = measure();
+        }
+
+        if (value == NO_READING) {
+            return;
+        }
+
+        reading = new Reading(
+            value,
+            (int) filter.calculate(value),
+            RobotController.getFPGATime()
+        );
+    }
+
+    /**
+     * One lidar reading, published all at once
+     */
+    public static class Reading {
+
+        // before the first reading
+        public static final Reading NONE = new Reading(0, 0, 0);
+
+        // distances in cm, timestamp is the fpga time in microseconds
+        public final int distance, averageDistance;
+        public final long timestamp;
+
+        private Reading(int distance, int averageDistance, long timestamp) {
+            this.distance = distance;
+            this.averageDistance = averageDistance;
+            this.timestamp = timestamp;
+        }
+    }
+}
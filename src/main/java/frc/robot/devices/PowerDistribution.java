@@ -0,0 +1,45 @@
+package frc.robot.devices;
+
+import edu.wpi.first.wpilibj.PowerDistributionPanel;
+import frc.robot.logging.Logger;
+import frc.robot.logging.LoggerRelations;
+import frc.robot.logging.SampleRate;
+
+/**
+ * Logs the power distribution panel. Every value is its own CAN read so it is
+ * only sampled at 5hz.
+ */
+public class PowerDistribution implements Logger {
+
+    private PowerDistributionPanel pdp;
+
+    public PowerDistribution() {
+        pdp = new PowerDistributionPanel();
+    }
+
+    /**
+     * @return the battery voltage seen by the pdp
+     */
+    public double getVoltage() {
+        return pdp.getVoltage();
+    }
+
+    /**
+     * @return the current drawn through every channel combined in amps
+     */
+    public double getTotalCurrent() {
+        return pdp.getTotalCurrent();
+    }
+
+    @Override
+    public double[] getValues(double[] values) {
+        values[LoggerRelations.PDP_CURRENT.value] = getTotalCurrent();
+        values[LoggerRelations.PDP_VOLTAGE.value] = getVoltage();
+        return values;
+    }
+
+    @Override
+    public SampleRate getSampleRate() {
+        return SampleRate.HZ_5;
+    }
+}
@@ -0,0 +1,98 @@
+package frc.robot.devices;
+
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.motorcontrol.StatusFrame;
+import com.ctre.phoenix.motorcontrol.can.BaseMotorController;
+import com.revrobotics.CANError;
+import com.revrobotics.CANSparkMax;
+import com.revrobotics.CANSparkMaxLowLevel.PeriodicFrame;
+
+/**
+ * Sets how often motor controllers send their status frames. Every controller
+ * starts out sending everything at the default rate, even when nothing reads
+ * it, so each one is given a {@link Profile} for how it is used.
+ *
+ * <p>
+ * The periods aren't saved on the controllers, so they go back to the defaults
+ * if a controller loses power.
+ */
+public class StatusFrameManager {
+
+    /**
+     * Frame periods in ms for each way a controller is used. Output is the
+     * applied output and faults, telemetry is velocity, current and temperature,
+     * and position is the encoder position.
+     */
+    public enum Profile {
+        // what the controllers do on their own
+        DEFAULT(10, 20, 20),
+        // followers copy their leader's output frame, so their own frames aren't read
+        FOLLOWER(100, 250, 250),
+        // only position is read, output stays fast for any followers
+        POSITION(10, 100, 20),
+        // position is closed on every loop
+        FAST_POSITION(10, 100, 10),
+        // only velocity is read
+        VELOCITY(10, 10, 250),
+        // nothing is read
+        OPEN_LOOP(50, 250, 250);
+
+        public final int output, telemetry, position;
+
+        private Profile(int output, int telemetry, int position) {
+            this.output = output;
+            this.telemetry = telemetry;
+            this.position = position;
+        }
+    }
+
+    private static int configured;
+
+    private StatusFrameManager() {
+    }
+
+    /**
+     * Sets a spark max's status frame periods
+     *
+     * @param spark the spark
+     * @param profile how the spark is used
+     */
+    public static void configure(CANSparkMax spark, Profile profile) {
+        boolean ok = 
+        spark.setPeriodicFramePeriod(PeriodicFrame.kStatus0, profile.output) == CANError.kOk &
+        spark.setPeriodicFramePeriod(PeriodicFrame.kStatus1, profile.telemetry) == CANError.kOk &
+        spark.setPeriodicFramePeriod(PeriodicFrame.kStatus2, profile.position) == CANError.kOk;
+
+        report(ok, "spark max " + spark.getDeviceId());
+    }
+
+    /**
+     * Sets a ctre controller's status frame periods
+     *
+     * @param controller the talon or victor
+     * @param profile how the controller is used
+     */
+    public static void configure(BaseMotorController controller, Profile profile) {
+        boolean ok = 
+        controller.setStatusFramePeriod(StatusFrame.Status_1_General, profile.output) == ErrorCode.OK &
+        controller.setStatusFramePeriod(StatusFrame.Status_4_AinTempVbat, profile.telemetry) == ErrorCode.OK &
+        controller.setStatusFramePeriod(StatusFrame.Status_2_Feedback0, profile.position) == ErrorCode.OK;
+
+        report(ok, "controller " + controller.getDeviceID());
+    }
+
+    /**
+     * @return the number of controllers configured
+     */
+    public static int getConfiguredCount() {
+        return configured;
+    }
+
+    private static void report(boolean ok, String name) {
+        if (ok) {
+            configured++;
+        } else {
+            System.out.println("Could not set status frames for " + name);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package frc.robot.devices;
+
+/**
+ * One frame of limelight targeting data. Snapshots never change, so everything
+ * read from one comes from the same update.
+ */
+public class TargetSnapshot {
+
+    // time between the image being taken and the pipeline starting in ms, for
+    // limelights that don't send cl
+    public static final double DEFAULT_CAPTURE_LATENCY = 11;
+
+    // before the limelight has sent anything
+    public static final TargetSnapshot EMPTY = new TargetSnapshot(false, 0, 0, 0, 0, DEFAULT_CAPTURE_LATENCY, 0);
+
+    private final boolean hasTarget;
+    private final double horizontalOffset, verticalOffset, area, latency, captureLatency;
+    private final long timestamp;
+
+    /**
+     * @param hasTarget if the limelight sees a target
+     * @param horizontalOffset tx in degrees
+     * @param verticalOffset ty in degrees
+     * @param area ta as a percentage of the image
+     * @param latency tl, the pipeline latency in ms
+     * @param captureLatency cl, the time before the pipeline started in ms
+     * @param timestamp the fpga time the frame arrived at in microseconds
+     */
+    public TargetSnapshot(boolean hasTarget, double horizontalOffset, double verticalOffset, double area,
+            double latency, double captureLatency, long timestamp) {
+        this.hasTarget = hasTarget;
+        this.horizontalOffset = horizontalOffset;
+        this.verticalOffset = verticalOffset;
+        this.area = area;
+        this.latency = latency;
+        this.captureLatency = captureLatency;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return if the limelight had a target
+     */
+    public boolean hasTarget() {
+        return hasTarget;
+    }
+
+    /**
+     * @return the horizontal offset in degrees
+     */
+    public double getHorizontalOffset() {
+        return horizontalOffset;
+    }
+
+    /**
+     * @return the vertical offset in degrees
+     */
+    public double getVerticalOffset() {
+        return verticalOffset;
+    }
+
+    /**
+     * @return the percentage of area
+     */
+    public double getAreaPercentage() {
+        return area;
+    }
+
+    /**
+     * @return the pipeline latency in ms
+     */
+    public double getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the time between the image being taken and the pipeline starting in ms
+     */
+    public double getCaptureLatency() {
+        return captureLatency;
+    }
+
+    /**
+     * @return the fpga time the frame arrived at in microseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the fpga time the image was taken at in microseconds
+     */
+    public long getCaptureTimestamp() {
+        return timestamp - (long) ((latency + captureLatency) * 1000);
+    }
+}
@@ -0,0 +1,89 @@
+package frc.robot.devices;
+
+/**
+ * Remembers the last command sent to a motor controller so the same command
+ * isn't sent again every loop. Each write goes through JNI and onto the CAN
+ * bus, and most loops send exactly what was sent the loop before. An unchanged
+ * command is still resent once the keep alive has passed, in case the first
+ * write was lost.
+ */
+public class WriteCache {
+
+    // how long an unchanged command is held back by default in seconds
+    public static final double DEFAULT_KEEP_ALIVE = 0.1;
+
+    // no command has been sent yet, or the last one is unknown
+    private static final int NO_MODE = -1;
+
+    private static long totalWritesSaved;
+
+    private final long keepAlive;
+
+    private int mode = NO_MODE;
+    private double value;
+    private long lastWrite;
+
+    private long writesSent, writesSaved;
+
+    /**
+     * @param keepAlive how long an unchanged command is held back in seconds
+     */
+    public WriteCache(double keepAlive) {
+        this.keepAlive = (long) (keepAlive * 1e9);
+    }
+
+    /**
+     * Checks a command against the last one sent, and records it if it should
+     * be sent
+     *
+     * @param mode the control mode, commands in different modes never match
+     * @param value the setpoint
+     * @return whether the command needs to be sent
+     */
+    public boolean shouldWrite(int mode, double value) {
+        // nanoTime doesn't go through JNI like the fpga time does
+        long now = System.nanoTime();
+
+        if (mode == this.mode && value == this.value && now - lastWrite < keepAlive) {
+            writesSaved++;
+            totalWritesSaved++;
+            return false;
+        }
+
+        this.mode = mode;
+        this.value = value;
+        lastWrite = now;
+        writesSent++;
+
+        return true;
+    }
+
+    /**
+     * Forgets the last command, so the next one is always sent. Use when the
+     * controller is commanded some other way, like being stopped.
+     */
+    public void invalidate() {
+        mode = NO_MODE;
+    }
+
+    /**
+     * @return the number of commands sent
+     */
+    public long getWritesSent() {
+        return writesSent;
+    }
+
+    /**
+     * @return the number of commands skipped because they were unchanged
+     */
+    public long getWritesSaved() {
+        return writesSaved;
+    }
+
+    /**
+     * @return the number of commands skipped by every cache
+     */
+    public static long getTotalWritesSaved() {
+        return totalWritesSaved;
+    }
+}
@@ -0,0 +1,55 @@
+package frc.robot.diagnostics;
+
+import edu.wpi.first.hal.can.CANJNI;
+import edu.wpi.first.hal.can.CANStatus;
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.logging.Logger;
+import frc.robot.logging.LoggerRelations;
+
+/**
+ * Samples the CAN bus status every loop and logs how busy it is and how many
+ * errors it has seen.
+ */
+public class CANBusMonitor extends SubsystemBase implements Logger {
+
+    // RobotController.getCANStatus() makes a new status every call, this one is reused
+    private final CANStatus status = new CANStatus();
+
+    // highest utilization since the last log
+    private double peakUtilization;
+
+    @Override
+    public void periodic() {
+        CANJNI.GetCANStatus(status);
+
+        peakUtilization = Math.max(peakUtilization, status.percentBusUtilization);
+    }
+
+    /**
+     * @return the fraction of the bus in use, 0 - 1
+     */
+    public double getUtilization() {
+        return status.percentBusUtilization;
+    }
+
+    /**
+     * @return the number of times the transmit buffer was full
+     */
+    public int getTxFullCount() {
+        return status.txFullCount;
+    }
+
+    @Override
+    public double[] getValues(double[] values) {
+        values[LoggerRelations.CAN_UTILIZATION.value] = status.percentBusUtilization;
+        values[LoggerRelations.CAN_PEAK_UTILIZATION.value] = peakUtilization;
+        values[LoggerRelations.CAN_BUS_OFF.value] = status.busOffCount;
+        values[LoggerRelations.CAN_TX_FULL.value] = status.txFullCount;
+        values[LoggerRelations.CAN_RX_ERRORS.value] = status.receiveErrorCount;
+        values[LoggerRelations.CAN_TX_ERRORS.value] = status.transmitErrorCount;
+
+        peakUtilization = 0;
+
+        return values;
+    }
+}
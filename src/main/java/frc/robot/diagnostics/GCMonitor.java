@@ -0,0 +1,127 @@
+package frc.robot.diagnostics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.HashSet;
+import java.util.Map;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.logging.Logger;
+import frc.robot.logging.LoggerRelations;
+
+/**
+ * Logs what the robot thread allocates each loop and every garbage collection,
+ * so a loop overrun in the log can be matched to the collection that caused
+ * it. Must be made on the robot thread. Collections are reported by the
+ * collectors' notifications, which arrive on a jvm thread.
+ */
+public class GCMonitor extends SubsystemBase implements Logger {
+
+    private static final double BYTES_PER_MEGABYTE = 1 << 20;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final long robotThread = Thread.currentThread().getId();
+    private final boolean allocationSupported;
+
+    // names of the pools that are heap, collections also report metaspace and code
+    private final HashSet<String> heapPools = new HashSet<>();
+
+    private long lastAllocated;
+    private long loopAllocated;
+
+    // only written by the notification thread
+    private volatile long collections;
+    private volatile long pauseTime;
+    private volatile long heapAfterCollection;
+
+    public GCMonitor() {
+        allocationSupported = threads.isThreadAllocatedMemorySupported();
+
+        if (allocationSupported) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            lastAllocated = threads.getThreadAllocatedBytes(robotThread);
+        } else {
+            System.out.println("Could not measure allocations, the jvm doesn't support it");
+        }
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter) {
+                ((NotificationEmitter) collector).addNotificationListener(this::onNotification, null, null);
+            } else {
+                System.out.println("Could not listen to garbage collector " + collector.getName());
+            }
+        }
+    }
+
+    @Override
+    public void periodic() {
+        if (!allocationSupported) {
+            return;
+        }
+
+        // periodic runs once a loop, so this is everything since the last loop's
+        long allocated = threads.getThreadAllocatedBytes(robotThread);
+        loopAllocated = allocated - lastAllocated;
+        lastAllocated = allocated;
+    }
+
+    /**
+     * @return the bytes the robot thread allocated over the last loop
+     */
+    public long getLoopAllocated() {
+        return loopAllocated;
+    }
+
+    /**
+     * @return the number of garbage collections since the robot started
+     */
+    public long getCollections() {
+        return collections;
+    }
+
+    @Override
+    public double[] getValues(double[] values) {
+        values[LoggerRelations.GC_LOOP_ALLOCATED.value] = loopAllocated;
+        values[LoggerRelations.GC_COUNT.value] = collections;
+        values[LoggerRelations.GC_PAUSE_TIME.value] = pauseTime;
+        values[LoggerRelations.GC_HEAP_AFTER.value] = heapAfterCollection / BYTES_PER_MEGABYTE;
+        return values;
+    }
+
+    private void onNotification(Notification notification, Object handback) {
+        if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+            return;
+        }
+
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+            (CompositeData) notification.getUserData()
+        );
+
+        long heap = 0;
+        for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+            if (heapPools.contains(pool.getKey())) {
+                heap += pool.getValue().getUsed();
+            }
+        }
+
+        heapAfterCollection = heap;
+        pauseTime += info.getGcInfo().getDuration();
+        collections++;
+    }
+}
@@ -0,0 +1,131 @@
+package frc.robot.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size histogram of non negative long values, like nanosecond timings.
+ * Buckets double in width every power of two and each power of two is split
+ * into {@link #SUB_BUCKETS} buckets, so any percentile is within 1/8 of the
+ * real value no matter how big it is. Recording never allocates.
+ */
+public class Histogram {
+
+    // sub buckets per power of two, sets the resolution
+    private static final int SUB_BUCKET_BITS = 3;
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // enough buckets for every positive long
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Adds a value to the histogram
+     *
+     * @param value the value, negative values count as 0
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        counts[getBucket(value)]++;
+        count++;
+        total += value;
+
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Gets a percentile of the recorded values
+     *
+     * @param percentile the percentile from 0 to 100
+     * @return the top of the bucket the percentile falls in, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long target = (long) Math.ceil(count * percentile / 100);
+        if (target < 1) {
+            target = 1;
+        }
+
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+
+            if (seen >= target) {
+                return Math.min(getBucketTop(bucket), max);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return the largest recorded value
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the average of the recorded values
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Forgets every recorded value
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Finds the bucket for a value. Values below {@link #SUB_BUCKETS} get their
+     * own bucket, bigger ones are bucketed by their highest bits.
+     */
+    private static int getBucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket
+     */
+    private static long getBucketTop(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+
+        long top = ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+
+        // the last bucket runs past the largest long
+        return top < 0 ? Long.MAX_VALUE : top;
+    }
+}
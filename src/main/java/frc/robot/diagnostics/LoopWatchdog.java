@@ -0,0 +1,129 @@
+package frc.robot.diagnostics;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.logging.Logger;
+import frc.robot.logging.LoggerRelations;
+
+/**
+ * Watches the robot loop for overruns and jitter. Wraps the scheduler run in
+ * robotPeriodic(), measuring the period between loops and the time each loop
+ * took. A loop overruns if it takes longer than the period, or the next one
+ * starts late. The time of an overrun loop is broken down into button polling,
+ * subsystem periodic, command execute and logging from the
+ * {@link SchedulerProfiler}, and logged as events so every overrun can be
+ * found in the log. The period and rolling jitter stats are logged every loop.
+ */
+public class LoopWatchdog implements Logger {
+
+    // loops the rolling jitter stats cover, a second at 50 Hz
+    private static final int WINDOW = 50;
+
+    // how late a loop can start before the one before it counts as overrun
+    private static final long LATE_TOLERANCE = 1_000_000;
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final long period;
+    private final SchedulerProfiler profiler;
+    private final Command logger;
+
+    private final long[] jitters = new long[WINDOW];
+    private int jitterIndex;
+
+    private long loopStart;
+    private long lastPeriod;
+    private long loopTime;
+    private int overruns;
+
+    // breakdown of the last overrun loop
+    private long
+    overrunLoopTime,
+    overrunButtonTime,
+    overrunPeriodicTime,
+    overrunExecuteTime,
+    overrunLoggingTime;
+
+    /**
+     * @param period the loop period in seconds
+     * @param profiler the profiler timing the scheduler
+     * @param logger the command that logs, so its time can be split out of command execute
+     */
+    public LoopWatchdog(double period, SchedulerProfiler profiler, Command logger) {
+        this.period = (long) (period * 1e9);
+        this.profiler = profiler;
+        this.logger = logger;
+    }
+
+    /**
+     * Call at the start of robotPeriodic(), before the scheduler runs. Checks
+     * whether the loop before overran.
+     */
+    public void startLoop() {
+        long now = System.nanoTime();
+
+        if (loopStart != 0) {
+            lastPeriod = now - loopStart;
+
+            jitters[jitterIndex] = Math.abs(lastPeriod - period);
+            jitterIndex = (jitterIndex + 1) % WINDOW;
+
+            if (loopTime > period || lastPeriod > period + LATE_TOLERANCE) {
+                onOverrun();
+            }
+        }
+
+        loopStart = now;
+    }
+
+    /**
+     * Call at the end of robotPeriodic(), after the scheduler has run
+     */
+    public void endLoop() {
+        loopTime = System.nanoTime() - loopStart;
+    }
+
+    /**
+     * @return the number of loops that have overrun
+     */
+    public int getOverruns() {
+        return overruns;
+    }
+
+    @Override
+    public double[] getValues(double[] values) {
+        long maxJitter = 0;
+        double jitterSquares = 0;
+
+        for (long jitter : jitters) {
+            maxJitter = Math.max(maxJitter, jitter);
+            jitterSquares += (double) jitter * jitter;
+        }
+
+        values[LoggerRelations.LOOP_PERIOD.value] = lastPeriod / NANOS_PER_MILLI;
+        values[LoggerRelations.LOOP_JITTER_RMS.value] = Math.sqrt(jitterSquares / WINDOW) / NANOS_PER_MILLI;
+        values[LoggerRelations.LOOP_JITTER_MAX.value] = maxJitter / NANOS_PER_MILLI;
+        values[LoggerRelations.LOOP_OVERRUNS.value] = overruns;
+
+        values[LoggerRelations.OVERRUN_LOOP_TIME.value] = overrunLoopTime / NANOS_PER_MILLI;
+        values[LoggerRelations.OVERRUN_BUTTON_TIME.value] = overrunButtonTime / NANOS_PER_MILLI;
+        values[LoggerRelations.OVERRUN_PERIODIC_TIME.value] = overrunPeriodicTime / NANOS_PER_MILLI;
+        values[LoggerRelations.OVERRUN_EXECUTE_TIME.value] = overrunExecuteTime / NANOS_PER_MILLI;
+        values[LoggerRelations.OVERRUN_LOGGING_TIME.value] = overrunLoggingTime / NANOS_PER_MILLI;
+        return values;
+    }
+
+    /**
+     * Keeps the breakdown of the loop that just finished. The scheduler hasn't
+     * run yet this loop, so the profiler still has the last loop's times.
+     */
+    private void onOverrun() {
+        overruns++;
+
+        overrunLoggingTime = profiler.getExecuteTime(logger);
+
+        overrunLoopTime = loopTime;
+        overrunButtonTime = profiler.getButtonTime();
+        overrunPeriodicTime = profiler.getPeriodicTime();
+        overrunExecuteTime = profiler.getExecuteTime() - overrunLoggingTime;
+    }
+}
@@ -0,0 +1,306 @@
+package frc.robot.diagnostics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableEntry;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.Subsystem;
+import frc.robot.logging.Logger;
+import frc.robot.logging.LoggerRelations;
+
+/**
+ * Times every subsystem's periodic() and every command's execute() as the
+ * {@link CommandScheduler} runs them, keeping a {@link Histogram} for each.
+ *
+ * <p>
+ * The scheduler has no hooks around periodic(), so the profiled subsystems are
+ * re-registered with a marker subsystem between each of them. Subsystems run in
+ * the order they were registered, so each marker sees the time since the last
+ * one. Commands are timed between a marker button, which runs after every other
+ * button has been polled, and the scheduler's execute callback. A command's time
+ * also includes the isFinished() and end() of the command before it. Commands
+ * are grouped by name, so new instances of a command share its section, and
+ * past {@link #MAX_COMMAND_SECTIONS} names they all share one more, so memory
+ * and NetworkTables entries don't grow while the robot runs.
+ *
+ * <p>
+ * The last loop's phase times are logged, and the p50, p99 and max of every
+ * section are published to NetworkTables once a second.
+ */
+public class SchedulerProfiler implements Logger {
+
+    // loops between publishing to NetworkTables, once a second
+    private static final int PUBLISH_PERIOD = 50;
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    // most command names timed on their own
+    private static final int MAX_COMMAND_SECTIONS = 64;
+
+    private final CommandScheduler scheduler = CommandScheduler.getInstance();
+    private final NetworkTable table = NetworkTableInstance.getDefault().getTable("Profiler");
+
+    private final ArrayList<Section> sections = new ArrayList<>();
+    private final HashMap<String, Section> commands = new HashMap<>();
+    private final HashSet<String> names = new HashSet<>();
+
+    // every command past MAX_COMMAND_SECTIONS
+    private Section otherCommands;
+
+    private boolean enabled = true;
+
+    // time the last section ended at
+    private long mark;
+
+    // time spent in each phase of the current loop, and the last finished loop
+    private long
+    periodicTime,
+    buttonTime,
+    executeTime,
+    lastPeriodicTime,
+    lastButtonTime,
+    lastExecuteTime;
+
+    private int loops;
+
+    /**
+     * Something that is timed, with its entries on the dashboard
+     */
+    private static class Section {
+        Histogram histogram = new Histogram();
+        NetworkTableEntry p50, p99, max;
+
+        // the last time recorded and the loop it was in
+        long time;
+        int loop;
+    }
+
+    /**
+     * Subsystem that marks where the previous subsystem ended
+     */
+    private class Marker implements Subsystem {
+        private final Section section;
+
+        Marker(Section section) {
+            this.section = section;
+        }
+
+        @Override
+        public void periodic() {
+            onMarker(section);
+        }
+    }
+
+    /**
+     * Starts profiling. Must be created after default commands and button
+     * bindings are set up.
+     *
+     * @param subsystems the subsystems to time
+     */
+    public SchedulerProfiler(Subsystem... subsystems) {
+        scheduler.registerSubsystem(new Marker(null));
+
+        for (Subsystem subsystem : subsystems) {
+            // re-registering moves the subsystem to the end of the scheduler's order
+            Command defaultCommand = scheduler.getDefaultCommand(subsystem);
+            scheduler.unregisterSubsystem(subsystem);
+            scheduler.registerSubsystem(subsystem);
+
+            if (defaultCommand != null) {
+                scheduler.setDefaultCommand(subsystem, defaultCommand);
+            }
+
+            scheduler.registerSubsystem(new Marker(createSection(subsystem.getClass().getSimpleName())));
+        }
+
+        scheduler.addButton(this::onButtonsPolled);
+        scheduler.onCommandExecute(this::onCommandExecute);
+    }
+
+    /**
+     * @param enabled whether to time anything
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Forgets everything timed so far
+     */
+    public void reset() {
+        for (Section section : sections) {
+            section.histogram.reset();
+        }
+    }
+
+    /**
+     * Phase times are for the current loop, and complete once
+     * {@link CommandScheduler#run()} has returned.
+     *
+     * @return the time subsystem periodic() took in nanoseconds
+     */
+    public long getPeriodicTime() {
+        return periodicTime;
+    }
+
+    /**
+     * @return the time button polling took in the current loop in nanoseconds
+     */
+    public long getButtonTime() {
+        return buttonTime;
+    }
+
+    /**
+     * @return the time command execute() took in the current loop in nanoseconds
+     */
+    public long getExecuteTime() {
+        return executeTime;
+    }
+
+    /**
+     * @param command the command
+     * @return the time execute() of commands with the command's name took in
+     *         the current loop in nanoseconds, or 0 if none ran
+     */
+    public long getExecuteTime(Command command) {
+        Section section = commands.get(command.getName());
+        return section != null && section.loop == loops ? section.time : 0;
+    }
+
+    @Override
+    public double[] getValues(double[] values) {
+        values[LoggerRelations.PROFILER_PERIODIC_TIME.value] = lastPeriodicTime / NANOS_PER_MILLI;
+        values[LoggerRelations.PROFILER_BUTTON_TIME.value] = lastButtonTime / NANOS_PER_MILLI;
+        values[LoggerRelations.PROFILER_EXECUTE_TIME.value] = lastExecuteTime / NANOS_PER_MILLI;
+        return values;
+    }
+
+    /**
+     * Ends the previous subsystem's section, or starts a new loop for the first marker
+     */
+    private void onMarker(Section section) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        if (section == null) {
+            startLoop();
+        } else {
+            long time = now - mark;
+            section.histogram.record(time);
+            periodicTime += time;
+        }
+
+        mark = now;
+    }
+
+    /**
+     * Runs after the other buttons, so commands start timing from here
+     */
+    private void onButtonsPolled() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        buttonTime += now - mark;
+        mark = now;
+    }
+
+    /**
+     * Ends a command's section
+     */
+    private void onCommandExecute(Command command) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long time = now - mark;
+
+        Section section = getCommandSection(command.getName());
+
+        section.histogram.record(time);
+        // commands sharing a name add up
+        section.time = section.loop == loops ? section.time + time : time;
+        section.loop = loops;
+        executeTime += time;
+        mark = System.nanoTime();
+    }
+
+    /**
+     * Keeps the finished loop's phase times and publishes every so often
+     */
+    private void startLoop() {
+        lastPeriodicTime = periodicTime;
+        lastButtonTime = buttonTime;
+        lastExecuteTime = executeTime;
+
+        periodicTime = 0;
+        buttonTime = 0;
+        executeTime = 0;
+
+        if (++loops % PUBLISH_PERIOD == 0) {
+            publish();
+        }
+    }
+
+    /**
+     * Sends every section's stats to NetworkTables in milliseconds
+     */
+    private void publish() {
+        for (Section section : sections) {
+            section.p50.setDouble(section.histogram.getPercentile(50) / NANOS_PER_MILLI);
+            section.p99.setDouble(section.histogram.getPercentile(99) / NANOS_PER_MILLI);
+            section.max.setDouble(section.histogram.getMax() / NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Gets the section a command is timed in, making it the first time the
+     * name is seen
+     */
+    private Section getCommandSection(String name) {
+        Section section = commands.get(name);
+
+        if (section == null) {
+            if (commands.size() < MAX_COMMAND_SECTIONS) {
+                section = createSection(name);
+            } else {
+                if (otherCommands == null) {
+                    otherCommands = createSection("Other commands");
+                }
+                section = otherCommands;
+            }
+
+            commands.put(name, section);
+        }
+
+        return section;
+    }
+
+    private Section createSection(String name) {
+        // two of the same subsystem or command get numbered
+        String unique = name;
+        for (int i = 2; !names.add(unique); i++) {
+            unique = name + " " + i;
+        }
+
+        name = unique;
+
+        Section section = new Section();
+        section.p50 = table.getEntry(name + "/p50");
+        section.p99 = table.getEntry(name + "/p99");
+        section.max = table.getEntry(name + "/max");
+
+        sections.add(section);
+        return section;
+    }
+}
@@ -1,21 +1,14 @@
 package frc.robot.livepid;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import edu.wpi.first.networktables.NetworkTableEntry;
 import edu.wpi.first.wpilibj.controller.PIDController;
-import edu.wpi.first.wpilibj.shuffleboard.BuiltInLayouts;
-import edu.wpi.first.wpilibj.shuffleboard.BuiltInWidgets;
-import edu.wpi.first.wpilibj.shuffleboard.Shuffleboard;
-import edu.wpi.first.wpilibj.shuffleboard.ShuffleboardLayout;
 
 public class LivePIDController extends PIDController {
 
-    private static HashMap<String, NetworkTableEntry[]> PIDNetworkEntries = new HashMap<>();
-
     private double defaultP, defaultI, defaultD;
-    private NetworkTableEntry[] PID;
+    private PIDTuningEntries PID;
+
+    // version of the entries the gains were last set from
+    private int appliedVersion;
 
     /**
      * Live pid controler
@@ -31,29 +24,37 @@ public class LivePIDController extends PIDController {
             defaultD
         );
 
-        ShuffleboardLayout layout = Shuffleboard.getTab("PID Tuning").getLayout(name, BuiltInLayouts.kList);
-        if (PIDNetworkEntries.containsKey(name)) {
-            PID = PIDNetworkEntries.get(name);
-
-        } else {
-            PID = new NetworkTableEntry[3];
-
-            PID[0] = layout.add("P", defaultP).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleP)).getEntry();
-            PID[1] = layout.add("I", defaultI).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleI)).getEntry();
-            PID[2] = layout.add("D", defaultD).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleD)).getEntry();
-
-            PIDNetworkEntries.put(name, PID);
-        }
+        PID = PIDTuningEntries.get(name, defaultP, defaultI, defaultD, scaleP, scaleI, scaleD);
 
         this.defaultP = defaultP;
         this.defaultI = defaultI;
         this.defaultD = defaultD;
+
+        // picks up gains saved from a previous run
+        apply();
     }
 
+    /**
+     * Sets the gains if a slider has moved since they were last set
+     */
     public void update() {
-        double p = PID[0].getDouble(defaultP);
-        double i = PID[1].getDouble(defaultI);
-        double d = PID[2].getDouble(defaultD);
-        setPID(p, i, d);
+        if (PID.getVersion() != appliedVersion) {
+            apply();
+        }
+    }
+
+    /**
+     * Sets if the tuned gains are saved through a restart
+     *
+     * @param persistent whether to save the gains
+     */
+    public void setPersistent(boolean persistent) {
+        PID.setPersistent(persistent);
+    }
+
+    private void apply() {
+        // read first so a change while setting is caught next update
+        appliedVersion = PID.getVersion();
+        setPID(PID.getP(defaultP), PID.getI(defaultI), PID.getD(defaultD));
     }
-}
\ No newline at end of file
+}
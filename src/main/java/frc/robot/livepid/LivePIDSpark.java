@@ -1,79 +1,53 @@
 package frc.robot.livepid;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.revrobotics.CANPIDController;
 
-import edu.wpi.first.networktables.NetworkTableEntry;
-import edu.wpi.first.wpilibj.shuffleboard.BuiltInLayouts;
-import edu.wpi.first.wpilibj.shuffleboard.BuiltInWidgets;
-import edu.wpi.first.wpilibj.shuffleboard.Shuffleboard;
-import edu.wpi.first.wpilibj.shuffleboard.ShuffleboardLayout;
-
 public class LivePIDSpark {
 
-	private static HashMap<String, NetworkTableEntry[]> PIDNetworkEntries = new HashMap<>();
-
     private double defaultP, defaultI, defaultD;
-	private NetworkTableEntry[] PID;
+	private PIDTuningEntries PID;
 	
 	CANPIDController pidController;
 
-	private double
-	currentP,
-	currentI,
-	currentD;
+	// version of the entries the gains were last set from
+	private int appliedVersion;
 
 	public LivePIDSpark(String name, CANPIDController pidController, double defaultP, double defaultI, double defaultD, double scaleP, double scaleI, double scaleD) {
 		this.pidController = pidController;
 
-		ShuffleboardLayout layout = Shuffleboard.getTab("PID Tuning").getLayout(name, BuiltInLayouts.kList);
-        if (PIDNetworkEntries.containsKey(name)) {
-            PID = PIDNetworkEntries.get(name);
-
-        } else {
-            PID = new NetworkTableEntry[3];
-
-            PID[0] = layout.add("P", defaultP).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleP)).getEntry();
-            PID[1] = layout.add("I", defaultI).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleI)).getEntry();
-            PID[2] = layout.add("D", defaultD).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleD)).getEntry();
-        }
+		PID = PIDTuningEntries.get(name, defaultP, defaultI, defaultD, scaleP, scaleI, scaleD);
 
         this.defaultP = defaultP;
         this.defaultI = defaultI;
 		this.defaultD = defaultD;
 		
-		currentP = getP();
-		currentI = getI();
-		currentD = getD();
+		apply();
 	}
 
+	/**
+	 * Sends the gains to the spark if a slider has moved since they were last sent
+	 */
 	public void update() {
-		double p = getP();
-		double i = getI();
-		double d = getD();
-
-		if (p != currentP || i != currentI || d != currentD) {
-			pidController.setP(p);
-			pidController.setI(i);
-			pidController.setD(d);
-
-			currentP = p;
-			currentI = i;
-			currentD = d;
+		if (PID.getVersion() != appliedVersion) {
+			apply();
 		}
 	}
 
-	private double getP() {
-		return PID[0].getDouble(defaultP);
+	/**
+	 * Sets if the tuned gains are saved through a restart
+	 *
+	 * @param persistent whether to save the gains
+	 */
+	public void setPersistent(boolean persistent) {
+		PID.setPersistent(persistent);
 	}
 
-	private double getI() {
-		return PID[1].getDouble(defaultI);
-	}
+	private void apply() {
+		// read first so a change while sending is caught next update
+		appliedVersion = PID.getVersion();
 
-	private double getD() {
-		return PID[2].getDouble(defaultD);
+		pidController.setP(PID.getP(defaultP));
+		pidController.setI(PID.getI(defaultI));
+		pidController.setD(PID.getD(defaultD));
 	}
-}
\ No newline at end of file
+}
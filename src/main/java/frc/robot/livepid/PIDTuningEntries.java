@@ -0,0 +1,90 @@
+package frc.robot.livepid;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.wpi.first.networktables.EntryListenerFlags;
+import edu.wpi.first.networktables.NetworkTableEntry;
+import edu.wpi.first.wpilibj.shuffleboard.BuiltInLayouts;
+import edu.wpi.first.wpilibj.shuffleboard.BuiltInWidgets;
+import edu.wpi.first.wpilibj.shuffleboard.Shuffleboard;
+import edu.wpi.first.wpilibj.shuffleboard.ShuffleboardLayout;
+
+/**
+ * The P, I and D sliders for one name on the PID Tuning tab. Instead of the
+ * entries being read every loop, a listener bumps a version number whenever a
+ * slider moves. Controllers compare it to the version they last applied, so a
+ * whole slider drag is applied once, on the next update.
+ */
+public class PIDTuningEntries {
+
+    private static HashMap<String, PIDTuningEntries> PIDNetworkEntries = new HashMap<>();
+
+    private NetworkTableEntry p, i, d;
+
+    // only written by the networktables listener thread
+    private volatile int version;
+
+    private PIDTuningEntries(String name, double defaultP, double defaultI, double defaultD, double scaleP, double scaleI, double scaleD) {
+        ShuffleboardLayout layout = Shuffleboard.getTab("PID Tuning").getLayout(name, BuiltInLayouts.kList);
+
+        p = layout.add("P", defaultP).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleP)).getEntry();
+        i = layout.add("I", defaultI).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleI)).getEntry();
+        d = layout.add("D", defaultD).withWidget(BuiltInWidgets.kNumberSlider).withProperties(Map.of("min", 0, "max", scaleD)).getEntry();
+
+        p.addListener(notification -> version++, EntryListenerFlags.kUpdate);
+        i.addListener(notification -> version++, EntryListenerFlags.kUpdate);
+        d.addListener(notification -> version++, EntryListenerFlags.kUpdate);
+    }
+
+    /**
+     * Gets the entries for a name, making them the first time
+     *
+     * @return the entries, shared by everything tuned under the name
+     */
+    public static synchronized PIDTuningEntries get(String name, double defaultP, double defaultI, double defaultD, double scaleP, double scaleI, double scaleD) {
+        PIDTuningEntries entries = PIDNetworkEntries.get(name);
+
+        if (entries == null) {
+            entries = new PIDTuningEntries(name, defaultP, defaultI, defaultD, scaleP, scaleI, scaleD);
+            PIDNetworkEntries.put(name, entries);
+        }
+
+        return entries;
+    }
+
+    /**
+     * @return a number that changes every time a slider moves
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public double getP(double defaultP) {
+        return p.getDouble(defaultP);
+    }
+
+    public double getI(double defaultI) {
+        return i.getDouble(defaultI);
+    }
+
+    public double getD(double defaultD) {
+        return d.getDouble(defaultD);
+    }
+
+    /**
+     * Sets if the gains are saved on the robot, so tuned gains are kept through
+     * a restart instead of going back to the defaults
+     *
+     * @param persistent whether to save the gains
+     */
+    public void setPersistent(boolean persistent) {
+        for (NetworkTableEntry entry : new NetworkTableEntry[] {p, i, d}) {
+            if (persistent) {
+                entry.setPersistent();
+            } else {
+                entry.clearPersistent();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package frc.robot.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes frames as binary records.
+ *
+ * <p>
+ * A log starts with a header:
+ * <pre>
+ * int    MAGIC
+ * short  VERSION
+ * byte   value size, 8 for doubles or 4 for floats
+ * long   wall clock start time in milliseconds
+ * int    channel count
+ * utf    channel name   \ repeated channel count times
+ * byte   channel type   /  as a {@link ChannelType} ordinal
+ * </pre>
+ * followed by records, each starting with a tag byte:
+ * <pre>
+ * FRAME  long time, then one value for each {@link ChannelType#CONTINUOUS} channel
+ * EVENT  long time, short channel, double value
+ * </pre>
+ * Times are in microseconds since logging started. {@link ChannelType#EVENT}
+ * channels are only written when their value changes (and once at the start
+ * of every segment), just before the frame they changed in. Everything is big
+ * endian so the log can be read back with a {@link java.io.DataInputStream}.
+ */
+public class BinaryLogEncoder implements LogEncoder {
+
+    // "SYNC"
+    public static final int MAGIC = 0x53594E43;
+    public static final short VERSION = 2;
+
+    public static final byte
+    FRAME = 'F',
+    EVENT = 'E';
+
+    private static final int EVENT_SIZE = Byte.BYTES + Long.BYTES + Short.BYTES + Double.BYTES;
+
+    private final int valueSize;
+
+    // channel indexes split by how they are stored
+    private int[] continuousChannels;
+    private int[] eventChannels;
+
+    // the last value written for each event channel
+    private double[] lastValues;
+    private boolean fresh;
+
+    /**
+     * @param valueSize the size of each value, {@link Double#BYTES} or {@link Float#BYTES}
+     */
+    public BinaryLogEncoder(int valueSize) {
+        this.valueSize = valueSize;
+    }
+
+    @Override
+    public ByteBuffer encodeHeader(long startTime, String[] channelNames, ChannelType[] channelTypes) {
+        int eventCount = 0;
+        for (ChannelType type : channelTypes) {
+            if (type == ChannelType.EVENT) {
+                eventCount++;
+            }
+        }
+
+        continuousChannels = new int[channelTypes.length - eventCount];
+        eventChannels = new int[eventCount];
+        lastValues = new double[channelTypes.length];
+
+        for (int i = 0, continuous = 0, event = 0; i < channelTypes.length; i++) {
+            if (channelTypes[i] == ChannelType.EVENT) {
+                eventChannels[event++] = i;
+            } else {
+                continuousChannels[continuous++] = i;
+            }
+        }
+
+        reset();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream header = new DataOutputStream(bytes)) {
+            header.writeInt(MAGIC);
+            header.writeShort(VERSION);
+            header.writeByte(valueSize);
+            header.writeLong(startTime);
+            header.writeInt(channelNames.length);
+
+            for (int i = 0; i < channelNames.length; i++) {
+                header.writeUTF(channelNames[i]);
+                header.writeByte(channelTypes[i].ordinal());
+            }
+
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Override
+    public void reset() {
+        fresh = true;
+    }
+
+    @Override
+    public int getMaxFrameSize(int width) {
+        // every channel could be an event that changed
+        return Byte.BYTES + Long.BYTES + width * Math.max(valueSize, EVENT_SIZE);
+    }
+
+    @Override
+    public void encodeFrame(ByteBuffer buffer, long time, double[] values) {
+        for (int channel : eventChannels) {
+            double value = values[channel];
+
+            if (fresh || Double.compare(value, lastValues[channel]) != 0) {
+                buffer.put(EVENT);
+                buffer.putLong(time);
+                buffer.putShort((short) channel);
+                buffer.putDouble(value);
+
+                lastValues[channel] = value;
+            }
+        }
+
+        fresh = false;
+
+        buffer.put(FRAME);
+        buffer.putLong(time);
+
+        if (valueSize == Float.BYTES) {
+            for (int channel : continuousChannels) {
+                buffer.putFloat((float) values[channel]);
+            }
+        } else {
+            for (int channel : continuousChannels) {
+                buffer.putDouble(values[channel]);
+            }
+        }
+    }
+}
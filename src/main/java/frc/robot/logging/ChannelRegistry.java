@@ -0,0 +1,73 @@
+package frc.robot.logging;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Hands out log channel indices. Channels are numbered densely in the order
+ * they register, so the logged values array has exactly one slot per channel.
+ * Every channel needs a unique name, and the set of channels is locked once
+ * the first log is started since its header names every channel.
+ */
+public final class ChannelRegistry {
+
+    private static final ArrayList<String> names = new ArrayList<>();
+    private static final ArrayList<ChannelType> types = new ArrayList<>();
+    private static final HashSet<String> registered = new HashSet<>();
+
+    private static boolean locked;
+
+    private ChannelRegistry() {
+    }
+
+    /**
+     * Adds a channel
+     *
+     * @param name the unique name of the channel
+     * @param type how the channel is stored
+     * @return the index of the channel in the logged values
+     * @throws IllegalArgumentException if the name is already used
+     * @throws IllegalStateException if logging has already started
+     */
+    public static synchronized int register(String name, ChannelType type) {
+        if (locked) {
+            throw new IllegalStateException("Log channel " + name + " registered after logging started");
+        }
+
+        if (!registered.add(name)) {
+            throw new IllegalArgumentException("Log channel " + name + " is already registered");
+        }
+
+        names.add(name);
+        types.add(type);
+        return names.size() - 1;
+    }
+
+    /**
+     * Stops any more channels from being added
+     */
+    public static synchronized void lock() {
+        locked = true;
+    }
+
+    /**
+     * @return the number of channels
+     */
+    public static synchronized int getChannelCount() {
+        return names.size();
+    }
+
+    /**
+     * @return the name of each channel, in index order
+     */
+    public static synchronized String[] getChannelNames() {
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * @return how each channel is stored, in index order
+     */
+    public static synchronized ChannelType[] getChannelTypes() {
+        return types.toArray(new ChannelType[0]);
+    }
+}
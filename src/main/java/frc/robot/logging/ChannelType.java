@@ -0,0 +1,12 @@
+package frc.robot.logging;
+
+/**
+ * How a logged channel is stored
+ */
+public enum ChannelType {
+    // written in every frame
+    CONTINUOUS,
+
+    // discrete values that rarely change, only written when they do
+    EVENT
+}
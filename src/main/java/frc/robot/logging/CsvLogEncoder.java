@@ -0,0 +1,80 @@
+package frc.robot.logging;
+
+import java.nio.ByteBuffer;
+import java.util.TimeZone;
+
+/**
+ * Encodes frames as comma seperated lines. The first line names the columns.
+ * Frames are written with {@link NumberEncoder} so encoding doesn't create
+ * any garbage. Every channel is written in every line, including events.
+ */
+public class CsvLogEncoder implements LogEncoder {
+
+    // sign, 13 digits, point, 6 decimals and the seperator, or a scientific value
+    private static final int MAX_VALUE_LENGTH = 26;
+    private static final int MAX_TIME_LENGTH = 32;
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private long startTime;
+
+    // local time zone offset, found once so frames don't need a calendar
+    private long zoneOffset;
+
+    @Override
+    public ByteBuffer encodeHeader(long startTime, String[] channelNames, ChannelType[] channelTypes) {
+        this.startTime = startTime;
+        zoneOffset = TimeZone.getDefault().getOffset(startTime);
+
+        StringBuilder line = new StringBuilder("time, ms");
+
+        for (String name : channelNames) {
+            line.append(", ").append(name);
+        }
+
+        line.append('\n');
+
+        ByteBuffer header = ByteBuffer.allocate(line.length());
+        NumberEncoder.putAscii(header, line.toString());
+        header.flip();
+        return header;
+    }
+
+    @Override
+    public void reset() {
+    }
+
+    @Override
+    public int getMaxFrameSize(int width) {
+        return MAX_TIME_LENGTH + width * MAX_VALUE_LENGTH;
+    }
+
+    @Override
+    public void encodeFrame(ByteBuffer buffer, long time, double[] values) {
+        long millis = time / 1000;
+
+        putTimeOfDay(buffer, startTime + millis);
+        buffer.put((byte) ',').put((byte) ' ');
+        NumberEncoder.putLong(buffer, millis);
+
+        for (double value : values) {
+            buffer.put((byte) ',').put((byte) ' ');
+            NumberEncoder.putDouble(buffer, value);
+        }
+
+        buffer.put((byte) '\n');
+    }
+
+    /**
+     * Writes a wall clock time as HH:mm:ss in the local time zone
+     */
+    private void putTimeOfDay(ByteBuffer buffer, long wallTime) {
+        int seconds = (int) (Math.floorMod(wallTime + zoneOffset, MILLIS_PER_DAY) / 1000);
+
+        NumberEncoder.putTwoDigits(buffer, seconds / 3600);
+        buffer.put((byte) ':');
+        NumberEncoder.putTwoDigits(buffer, seconds / 60 % 60);
+        buffer.put((byte) ':');
+        NumberEncoder.putTwoDigits(buffer, seconds % 60);
+    }
+}
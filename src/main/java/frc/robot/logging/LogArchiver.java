@@ -0,0 +1,176 @@
+package frc.robot.logging;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses finished log segments on a low priority background thread and
+ * keeps the log directory from filling up the roboRIO's flash. Each segment is
+ * gzipped next to itself and the raw file deleted. After every segment the
+ * oldest compressed logs are deleted until they fit in the quota and the disk
+ * has enough free space.
+ */
+public class LogArchiver implements Runnable {
+
+    public static final String ARCHIVE_EXTENSION = ".gz";
+
+    private static final String LOG_PREFIX = "SyncLog-";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final File directory;
+    private final long quota;
+    private final long minimumFreeSpace;
+
+    private final LinkedBlockingQueue<String> pending = new LinkedBlockingQueue<>();
+
+    private Thread thread;
+
+    /**
+     * @param directory the directory logs are written to
+     * @param quota the most bytes compressed logs can take up
+     * @param minimumFreeSpace the bytes to keep free on the disk
+     */
+    public LogArchiver(String directory, long quota, long minimumFreeSpace) {
+        this.directory = new File(directory);
+        this.quota = quota;
+        this.minimumFreeSpace = minimumFreeSpace;
+    }
+
+    /**
+     * Starts the archiver thread. Raw logs left behind by earlier runs, for
+     * example when the robot lost power, are queued to be compressed. Must be
+     * called before any new log is started.
+     */
+    public void start() {
+        File[] leftovers = directory.listFiles(
+            (dir, name) -> name.startsWith(LOG_PREFIX) && !name.endsWith(ARCHIVE_EXTENSION)
+        );
+
+        if (leftovers != null) {
+            for (File leftover : leftovers) {
+                pending.add(leftover.getPath());
+            }
+        }
+
+        thread = new Thread(this, "SyncLogger archiver");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Queues a finished segment to be compressed. Safe to call from any thread.
+     *
+     * @param fileLocation the segment
+     */
+    public void archive(String fileLocation) {
+        pending.add(fileLocation);
+    }
+
+    /**
+     * @return the number of segments waiting to be compressed
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void run() {
+        prune();
+
+        while (true) {
+            String fileLocation;
+
+            try {
+                fileLocation = pending.take();
+            } catch (InterruptedException x) {
+                return;
+            }
+
+            compress(fileLocation);
+            prune();
+        }
+    }
+
+    /**
+     * Gzips a segment and deletes the original
+     */
+    private void compress(String fileLocation) {
+        File raw = new File(fileLocation);
+        if (!raw.exists()) {
+            return;
+        }
+
+        File compressed = new File(fileLocation + ARCHIVE_EXTENSION);
+
+        try (
+            InputStream input = new BufferedInputStream(new FileInputStream(raw), BUFFER_SIZE);
+            OutputStream output = new FastGZIPOutputStream(new FileOutputStream(compressed))
+        ) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+
+        } catch (IOException x) {
+            System.out.println("Could not compress log file at location: " + fileLocation);
+            compressed.delete();
+            return;
+        }
+
+        raw.delete();
+    }
+
+    /**
+     * Deletes the oldest compressed logs until they fit in the quota and enough
+     * of the disk is free
+     */
+    private void prune() {
+        File[] archives = directory.listFiles(
+            (dir, name) -> name.startsWith(LOG_PREFIX) && name.endsWith(ARCHIVE_EXTENSION)
+        );
+
+        if (archives == null) {
+            return;
+        }
+
+        Arrays.sort(archives, Comparator.comparingLong(File::lastModified));
+
+        long total = 0;
+        for (File archive : archives) {
+            total += archive.length();
+        }
+
+        for (File oldest : archives) {
+            if (total <= quota && directory.getUsableSpace() >= minimumFreeSpace) {
+                break;
+            }
+
+            total -= oldest.length();
+            oldest.delete();
+        }
+    }
+
+    /**
+     * Gzip stream that trades compression ratio for speed, the roboRIO only has
+     * two cores to share with the robot loop
+     */
+    private static class FastGZIPOutputStream extends GZIPOutputStream {
+        FastGZIPOutputStream(OutputStream output) throws IOException {
+            super(output, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package frc.robot.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Offline tool that converts binary logs, compressed or not, back into csv. Each log is written
+ * next to the original with a .csv extension, with event channels filled in so
+ * every row has every value.
+ *
+ * <p>
+ * Run with {@code ./gradlew convertLogs -Plogs=SyncLog-a.bin.gz,SyncLog-b.bin}
+ */
+public class LogConverter {
+
+    public static void main(String... args) {
+        if (args.length == 0) {
+            System.out.println("Usage: LogConverter <log.bin>...");
+            return;
+        }
+
+        for (String log : args) {
+            try {
+                String csv = convert(log);
+                System.out.println("Wrote " + csv);
+
+            } catch (IOException x) {
+                System.out.println("Could not convert " + log + ": " + x.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Converts a binary log to csv
+     *
+     * @param fileLocation the binary log
+     * @return the location of the csv
+     * @throws IOException if either file can't be used
+     */
+    public static String convert(String fileLocation) throws IOException {
+        String csvLocation = fileLocation.replaceFirst("(\\.bin)?(\\.gz)?$", "") + ".csv";
+
+        try (
+            LogReader reader = new LogReader(fileLocation);
+            OutputStream output = new BufferedOutputStream(new FileOutputStream(csvLocation), 1 << 16)
+        ) {
+            CsvLogEncoder encoder = new CsvLogEncoder();
+            ByteBuffer header = encoder.encodeHeader(
+                reader.getStartTime(),
+                reader.getChannelNames(),
+                reader.getChannelTypes()
+            );
+            output.write(header.array(), 0, header.limit());
+
+            ByteBuffer frame = ByteBuffer.allocate(encoder.getMaxFrameSize(reader.getChannelNames().length));
+
+            while (reader.next()) {
+                frame.clear();
+                encoder.encodeFrame(frame, reader.getTime(), reader.getValues());
+                output.write(frame.array(), 0, frame.position());
+            }
+        }
+
+        return csvLocation;
+    }
+}
@@ -0,0 +1,42 @@
+package frc.robot.logging;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns logged frames into bytes for the {@link LogWriter}
+ */
+public interface LogEncoder {
+
+    /**
+     * Builds the header written once at the start of a log
+     *
+     * @param startTime the wall clock time logging started at in milliseconds
+     * @param channelNames the name of each logged channel, in value order
+     * @param channelTypes how each logged channel is stored, in value order
+     * @return a buffer holding the header, ready to be written
+     */
+    public ByteBuffer encodeHeader(long startTime, String[] channelNames, ChannelType[] channelTypes);
+
+    /**
+     * Forgets everything written so far. Called when a new log segment is
+     * started so that the segment can be read on its own.
+     */
+    public void reset();
+
+    /**
+     * Gets the most bytes a single frame can take up
+     *
+     * @param width the number of values in a frame
+     * @return the size in bytes
+     */
+    public int getMaxFrameSize(int width);
+
+    /**
+     * Writes a frame into a buffer at its current position
+     *
+     * @param buffer the buffer to write into, with at least {@link #getMaxFrameSize(int)} bytes remaining
+     * @param time the time since logging started in microseconds
+     * @param values the logged values
+     */
+    public void encodeFrame(ByteBuffer buffer, long time, double[] values);
+}
@@ -0,0 +1,34 @@
+package frc.robot.logging;
+
+/**
+ * File formats the {@link SyncLogger} can write
+ */
+public enum LogFormat {
+    // human readable, comma seperated values
+    CSV(".csv"),
+
+    // fixed width binary records with a double per channel
+    BINARY(".bin"),
+
+    // fixed width binary records with a float per channel, half the size of BINARY
+    BINARY_FLOAT(".bin");
+
+    public String extension;
+    private LogFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return a new encoder for this format
+     */
+    public LogEncoder createEncoder() {
+        switch (this) {
+            case BINARY:
+                return new BinaryLogEncoder(Double.BYTES);
+            case BINARY_FLOAT:
+                return new BinaryLogEncoder(Float.BYTES);
+            default:
+                return new CsvLogEncoder();
+        }
+    }
+}
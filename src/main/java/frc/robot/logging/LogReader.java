@@ -0,0 +1,189 @@
+package frc.robot.logging;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads logs written in the {@link BinaryLogEncoder} format one frame at a
+ * time. Event channels are filled in from their last change, so every frame
+ * comes back dense with a value for every channel. Logs compressed by the
+ * {@link LogArchiver} are read directly. Does not depend on anything robot side
+ * so it can run on a laptop.
+ */
+public class LogReader implements Closeable {
+
+    // first version, every channel in every record and no record tags
+    private static final short UNTAGGED_VERSION = 1;
+
+    private DataInputStream input;
+
+    private short version;
+    private int valueSize;
+    private long startTime;
+    private String[] channelNames;
+    private ChannelType[] channelTypes;
+    private int[] continuousChannels;
+
+    private long time;
+    private double[] values;
+    private boolean started;
+
+    /**
+     * Opens a log and reads its header
+     *
+     * @param fileLocation the log to read
+     * @throws IOException if the file can't be read or isn't a binary log
+     */
+    public LogReader(String fileLocation) throws IOException {
+        InputStream file = new FileInputStream(fileLocation);
+
+        if (fileLocation.endsWith(LogArchiver.ARCHIVE_EXTENSION)) {
+            file = new GZIPInputStream(file, 1 << 16);
+        }
+
+        input = new DataInputStream(new BufferedInputStream(file, 1 << 16));
+
+        try {
+            if (input.readInt() != BinaryLogEncoder.MAGIC) {
+                throw new IOException(fileLocation + " is not a binary log");
+            }
+
+            version = input.readShort();
+            if (version != BinaryLogEncoder.VERSION && version != UNTAGGED_VERSION) {
+                throw new IOException("Unsupported log version " + version + " in " + fileLocation);
+            }
+
+            valueSize = input.readByte();
+            startTime = input.readLong();
+
+            channelNames = new String[input.readInt()];
+            channelTypes = new ChannelType[channelNames.length];
+
+            int continuousCount = 0;
+            for (int i = 0; i < channelNames.length; i++) {
+                channelNames[i] = input.readUTF();
+                channelTypes[i] = version == UNTAGGED_VERSION ? ChannelType.CONTINUOUS : ChannelType.values()[input.readByte()];
+
+                if (channelTypes[i] == ChannelType.CONTINUOUS) {
+                    continuousCount++;
+                }
+            }
+
+            continuousChannels = new int[continuousCount];
+            for (int i = 0, continuous = 0; i < channelTypes.length; i++) {
+                if (channelTypes[i] == ChannelType.CONTINUOUS) {
+                    continuousChannels[continuous++] = i;
+                }
+            }
+
+        } catch (IOException x) {
+            input.close();
+            throw x;
+        }
+
+        values = new double[channelNames.length];
+    }
+
+    /**
+     * Reads up to and including the next frame. A record cut off by the robot
+     * losing power, or the zeroed space of a segment that was never truncated,
+     * counts as the end of the log.
+     *
+     * @return false if there are no more frames
+     * @throws IOException if the file can't be read
+     */
+    public boolean next() throws IOException {
+        try {
+            while (version != UNTAGGED_VERSION) {
+                byte tag = input.readByte();
+
+                if (tag == BinaryLogEncoder.FRAME) {
+                    break;
+                }
+
+                if (tag != BinaryLogEncoder.EVENT) {
+                    return false;
+                }
+
+                input.readLong();
+                int channel = input.readUnsignedShort();
+                double value = input.readDouble();
+
+                if (channel < values.length) {
+                    values[channel] = value;
+                }
+            }
+
+            long nextTime = input.readLong();
+
+            // timestamps only go up, so going backwards means we are into unused space
+            if (started && nextTime <= time) {
+                return false;
+            }
+
+            time = nextTime;
+            started = true;
+
+            if (valueSize == Float.BYTES) {
+                for (int channel : continuousChannels) {
+                    values[channel] = input.readFloat();
+                }
+            } else {
+                for (int channel : continuousChannels) {
+                    values[channel] = input.readDouble();
+                }
+            }
+
+            return true;
+
+        } catch (EOFException x) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the wall clock time logging started at in milliseconds
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the name of each channel, in value order
+     */
+    public String[] getChannelNames() {
+        return channelNames;
+    }
+
+    /**
+     * @return how each channel was stored, in value order
+     */
+    public ChannelType[] getChannelTypes() {
+        return channelTypes;
+    }
+
+    /**
+     * @return the time of the current frame in microseconds since logging started
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return the values of the current frame, reused between frames
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,246 @@
+package frc.robot.logging;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import edu.wpi.first.hal.sim.mockdata.SimulatorJNI;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.utilities.SensorSnapshot;
+import frc.robot.utilities.functionalinterfaces.AxisGetter;
+import frc.robot.utilities.functionalinterfaces.ButtonGetter;
+
+/**
+ * Plays a recorded log back through the robot code in simulation. While a
+ * replay is open, driver inputs and sensors created through
+ * {@link #axis(LoggerRelations, AxisGetter)} and
+ * {@link #button(LoggerRelations, ButtonGetter)} read the recorded channel
+ * instead of the hardware. Each frame steps the simulated clock to the
+ * recorded timestamp and runs the {@link CommandScheduler} once. The clock is
+ * paused between frames, so replay runs as fast as the robot code does.
+ *
+ * <p>
+ * A log is split into segments, {@code SyncLog-a-000.bin}, {@code -001} and
+ * so on, each of which may have been archived. Given the log's base name, or
+ * one of its segments, the segments from there on are played back as one
+ * continuous log.
+ */
+public class LogReplay implements Closeable {
+
+    private static LogReplay active;
+
+    // a segment of a binary log, raw or archived, split into base name and number
+    private static final Pattern SEGMENT_NAME = Pattern.compile(
+        "(.*)-(\\d{3,})" + Pattern.quote(LogFormat.BINARY.extension)
+        + "(" + Pattern.quote(LogArchiver.ARCHIVE_EXTENSION) + ")?"
+    );
+
+    // base name of the log's segments, or null if a single file is replayed
+    private final String baseLocation;
+    private int segment;
+    private LogReader reader;
+
+    // column in the log for each relation, by ordinal, or -1 if it wasn't logged
+    private final int[] columns;
+
+    private double[] values;
+    private long lastTime;
+    private boolean started;
+
+    /**
+     * Opens a log for replay. Must be done before the robot code is created so
+     * its inputs and sensors read from the log.
+     *
+     * @param fileLocation the log's base name, one of its segments, or a single
+     * log file, compressed or not
+     * @return the replay
+     * @throws IOException if the log can't be read
+     */
+    public static LogReplay open(String fileLocation) throws IOException {
+        if (active != null) {
+            active.close();
+        }
+
+        active = new LogReplay(fileLocation);
+        return active;
+    }
+
+    /**
+     * @return whether a log is being replayed
+     */
+    public static boolean isReplaying() {
+        return active != null;
+    }
+
+    /**
+     * Gets the source for an analog input. Reads the live getter normally, or
+     * the recorded channel during a replay.
+     *
+     * @param relation the channel the input is logged under
+     * @param live the getter for the real input
+     * @return the getter to use
+     */
+    public static AxisGetter axis(LoggerRelations relation, AxisGetter live) {
+        if (active == null) {
+            return live;
+        }
+
+        LogReplay replay = active;
+        return () -> replay.get(relation);
+    }
+
+    /**
+     * Gets the source for a digital input. Reads the live getter normally, or
+     * the recorded channel during a replay.
+     *
+     * @param relation the channel the input is logged under
+     * @param live the getter for the real input
+     * @return the getter to use
+     */
+    public static ButtonGetter button(LoggerRelations relation, ButtonGetter live) {
+        if (active == null) {
+            return live;
+        }
+
+        LogReplay replay = active;
+        return () -> replay.get(relation) != 0;
+    }
+
+    private LogReplay(String fileLocation) throws IOException {
+        Matcher segmentName = SEGMENT_NAME.matcher(fileLocation);
+
+        if (segmentName.matches()) {
+            baseLocation = segmentName.group(1);
+            segment = Integer.parseInt(segmentName.group(2));
+
+        } else if (new File(fileLocation).isFile()) {
+            baseLocation = null;
+
+        } else {
+            baseLocation = fileLocation;
+            segment = 0;
+            fileLocation = findSegment(segment);
+
+            if (fileLocation == null) {
+                throw new IOException("Could not find " + baseLocation + "-000" + LogFormat.BINARY.extension);
+            }
+        }
+
+        reader = new LogReader(fileLocation);
+        values = reader.getValues();
+
+        columns = new int[LoggerRelations.values().length];
+        Arrays.fill(columns, -1);
+
+        String[] names = reader.getChannelNames();
+        for (int i = 0; i < names.length; i++) {
+            // older logs shared slots, named by joining their names with a '/'
+            for (String name : names[i].split("/")) {
+                for (LoggerRelations relation : LoggerRelations.values()) {
+                    if (relation.name().equals(name)) {
+                        columns[relation.ordinal()] = i;
+                    }
+                }
+            }
+        }
+
+        SimulatorJNI.pauseTiming();
+    }
+
+    /**
+     * Gets where a segment of the log is
+     *
+     * @param number the segment's number
+     * @return the segment, archived if the raw one is gone, or null if neither exists
+     */
+    private String findSegment(int number) {
+        String location = String.format("%s-%03d%s", baseLocation, number, LogFormat.BINARY.extension);
+
+        if (new File(location).isFile()) {
+            return location;
+        }
+
+        location += LogArchiver.ARCHIVE_EXTENSION;
+        return new File(location).isFile() ? location : null;
+    }
+
+    /**
+     * Moves on to the next segment of the log. Every segment has the same
+     * header and times since logging started, so the columns and the clock
+     * carry on from the last one.
+     *
+     * @return false if there are no more segments
+     * @throws IOException if the segment can't be read
+     */
+    private boolean nextSegment() throws IOException {
+        String location = baseLocation == null ? null : findSegment(segment + 1);
+
+        if (location == null) {
+            return false;
+        }
+
+        reader.close();
+        reader = new LogReader(location);
+        values = reader.getValues();
+        segment++;
+        return true;
+    }
+
+    /**
+     * Gets the recorded value of a channel in the current frame
+     *
+     * @param relation the channel
+     * @return the value, or 0 if the channel isn't in the log
+     */
+    public double get(LoggerRelations relation) {
+        int column = columns[relation.ordinal()];
+        return column < 0 ? 0 : values[column];
+    }
+
+    /**
+     * Moves to the next frame, steps the clock to its time, takes the sensor
+     * snapshot and runs the scheduler, like a robot loop
+     *
+     * @return false once the last segment of the log has ended
+     * @throws IOException if the log can't be read
+     */
+    public boolean step() throws IOException {
+        while (!reader.next()) {
+            if (!nextSegment()) {
+                return false;
+            }
+        }
+
+        long time = reader.getTime();
+        if (started) {
+            SimulatorJNI.stepTiming(time - lastTime);
+        }
+
+        lastTime = time;
+        started = true;
+
+        SensorSnapshot.getInstance().update();
+        CommandScheduler.getInstance().run();
+        return true;
+    }
+
+    /**
+     * @return the time of the current frame in microseconds since logging started
+     */
+    public long getTime() {
+        return lastTime;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+
+        if (active == this) {
+            active = null;
+            SimulatorJNI.resumeTiming();
+        }
+    }
+}
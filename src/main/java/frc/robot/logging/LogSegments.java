@@ -0,0 +1,186 @@
+package frc.robot.logging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * The files a log is written into. Each segment is preallocated and memory
+ * mapped, so writing a frame is only stores into the mapped buffer and the
+ * file system never has to grow a file mid match. When a segment fills up the
+ * log rolls over into the next one. Every segment starts with its own header
+ * so it can be read on its own, and is truncated down to the data actually
+ * written once it is finished, then handed off (to a {@link LogArchiver}).
+ */
+public class LogSegments implements Closeable {
+
+    // how often dirty pages are forced out to flash
+    private static final long FORCE_INTERVAL_NANOS = 1_000_000_000;
+
+    private static final int ZERO_FILL_SIZE = 1 << 16;
+
+    private final String baseLocation;
+    private final String extension;
+    private final int segmentSize;
+    private final ByteBuffer header;
+    private final Consumer<String> onFinished;
+
+    private Segment current;
+    private Segment next;
+    private int segmentNumber;
+
+    private long lastForce;
+
+    /**
+     * A single mapped file
+     */
+    private static class Segment {
+        int number;
+        String location;
+        FileChannel channel;
+        MappedByteBuffer buffer;
+    }
+
+    /**
+     * Creates the first segment and writes its header
+     *
+     * @param baseLocation the log location without an extension, segment numbers are added to it
+     * @param extension the extension for each segment
+     * @param segmentSize the size of each segment in bytes
+     * @param header the header to start each segment with
+     * @param onFinished given the location of each segment once it is finished
+     * @throws IOException if the segment can't be created
+     */
+    public LogSegments(
+        String baseLocation,
+        String extension,
+        int segmentSize,
+        ByteBuffer header,
+        Consumer<String> onFinished
+    ) throws IOException {
+        this.baseLocation = baseLocation;
+        this.extension = extension;
+        this.segmentSize = segmentSize;
+        this.header = header;
+        this.onFinished = onFinished;
+
+        current = allocate();
+        current.buffer.put(header.duplicate());
+    }
+
+    /**
+     * Gets the buffer to encode the next frame into, rolling over to a new
+     * segment if the frame won't fit in the current one
+     *
+     * @param frameSize the most bytes the frame can take up
+     * @return the buffer to write into at its current position
+     * @throws IOException if a new segment can't be created
+     */
+    public ByteBuffer reserve(int frameSize) throws IOException {
+        if (current.buffer.remaining() < frameSize) {
+            finish(current);
+
+            current = next != null ? next : allocate();
+            next = null;
+
+            current.buffer.put(header.duplicate());
+        }
+
+        return current.buffer;
+    }
+
+    /**
+     * Does the slow work that shouldn't happen between frames. Called when the
+     * writer has nothing to write. Preallocates the next segment once the current
+     * one is half full, and periodically forces written data out to flash.
+     *
+     * @throws IOException if the next segment can't be created
+     */
+    public void idle() throws IOException {
+        if (next == null && current.buffer.position() > segmentSize / 2) {
+            next = allocate();
+        }
+
+        long now = System.nanoTime();
+        if (now - lastForce > FORCE_INTERVAL_NANOS) {
+            current.buffer.force();
+            lastForce = now;
+        }
+    }
+
+    /**
+     * @return the number of the segment being written, counting from 0
+     */
+    public int getCurrentNumber() {
+        return current.number;
+    }
+
+    /**
+     * @return the location of the segment being written
+     */
+    public String getCurrentLocation() {
+        return current.location;
+    }
+
+    /**
+     * Finishes the current segment and throws away the preallocated one
+     */
+    @Override
+    public void close() throws IOException {
+        finish(current);
+
+        if (next != null) {
+            next.channel.close();
+            Files.deleteIfExists(Paths.get(next.location));
+        }
+    }
+
+    /**
+     * Creates the next segment, filling it with zeros so the file system
+     * allocates every block up front, and maps it. Fails if the file already
+     * exists rather than writing over an earlier log.
+     */
+    private Segment allocate() throws IOException {
+        Segment segment = new Segment();
+        segment.number = segmentNumber++;
+        segment.location = String.format("%s-%03d%s", baseLocation, segment.number, extension);
+
+        segment.channel = FileChannel.open(
+            Paths.get(segment.location),
+            // never maps over an existing log
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        ByteBuffer zeros = ByteBuffer.allocateDirect(ZERO_FILL_SIZE);
+        for (long filled = 0; filled < segmentSize; filled += ZERO_FILL_SIZE) {
+            zeros.clear();
+            zeros.limit((int) Math.min(ZERO_FILL_SIZE, segmentSize - filled));
+
+            while (zeros.hasRemaining()) {
+                segment.channel.write(zeros);
+            }
+        }
+
+        segment.buffer = segment.channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return segment;
+    }
+
+    /**
+     * Flushes a segment, cuts it down to the data written to it and hands it off
+     */
+    private void finish(Segment segment) throws IOException {
+        segment.buffer.force();
+        segment.channel.truncate(segment.buffer.position());
+        segment.channel.close();
+
+        onFinished.accept(segment.location);
+    }
+}
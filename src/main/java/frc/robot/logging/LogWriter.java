@@ -0,0 +1,201 @@
+package frc.robot.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Background writer for the {@link SyncLogger}. The robot thread copies each
+ * frame into a preallocated ring and returns, and this thread encodes the ring
+ * into memory mapped {@link LogSegments} so file io never runs on the main
+ * loop.
+ *
+ * <p>
+ * The ring is bounded. If the writer falls {@code capacity} frames behind, new
+ * frames are dropped (the robot thread never waits on the disk) and counted in
+ * {@link #getDroppedFrames()}.
+ */
+public class LogWriter implements Runnable {
+
+    // how long the writer sleeps when there is nothing to write
+    private static final long IDLE_PARK_NANOS = 10_000_000;
+
+    private final String baseLocation;
+    private final String extension;
+    private final int segmentSize;
+    private final Consumer<String> onSegmentFinished;
+    private final LogEncoder encoder;
+    private final long startTime;
+    private final String[] channelNames;
+    private final ChannelType[] channelTypes;
+    private final int capacity;
+    private final int width;
+
+    // preallocated frames, only ever touched by the slot's current owner
+    private final double[][] frameValues;
+    private final long[] frameTimes;
+
+    // head is only advanced by the writer thread, tail only by the robot thread
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicLong writtenFrames = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param baseLocation the log location without an extension
+     * @param extension the extension of each log segment
+     * @param segmentSize the size of each log segment in bytes
+     * @param onSegmentFinished given the location of each log segment once it is finished
+     * @param encoder the format to write frames in
+     * @param startTime the wall clock time logging started at in milliseconds
+     * @param channelNames the name of each value in a frame
+     * @param channelTypes how each value in a frame is stored
+     * @param capacity the number of frames that can be waiting to be written
+     */
+    public LogWriter(
+        String baseLocation,
+        String extension,
+        int segmentSize,
+        Consumer<String> onSegmentFinished,
+        LogEncoder encoder,
+        long startTime,
+        String[] channelNames,
+        ChannelType[] channelTypes,
+        int capacity
+    ) {
+        this.baseLocation = baseLocation;
+        this.extension = extension;
+        this.segmentSize = segmentSize;
+        this.onSegmentFinished = onSegmentFinished;
+        this.encoder = encoder;
+        this.startTime = startTime;
+        this.channelNames = channelNames;
+        this.channelTypes = channelTypes;
+        this.capacity = capacity;
+        this.width = channelNames.length;
+
+        frameValues = new double[capacity][width];
+        frameTimes = new long[capacity];
+    }
+
+    /**
+     * Starts the writer thread
+     */
+    public void start() {
+        running = true;
+
+        thread = new Thread(this, "SyncLogger writer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Tells the writer thread to finish writing queued frames and close the file.
+     * Does not wait for it to finish.
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Copies a frame into the ring to be written. Called from the robot thread.
+     *
+     * @param time the time since logging started in microseconds
+     * @param values the logged values, copied so the caller can reuse the array
+     * @return false if the ring was full and the frame was dropped
+     */
+    public boolean offer(long time, double[] values) {
+        long currentTail = tail.get();
+        long currentHead = head.get();
+
+        if (currentTail - currentHead >= capacity) {
+            droppedFrames.incrementAndGet();
+            return false;
+        }
+
+        int slot = (int) (currentTail % capacity);
+        System.arraycopy(values, 0, frameValues[slot], 0, Math.min(values.length, width));
+        frameTimes[slot] = time;
+
+        tail.lazySet(currentTail + 1);
+
+        // only wake the writer if it may have gone idle
+        if (currentTail == currentHead) {
+            LockSupport.unpark(thread);
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the number of frames waiting to be written
+     */
+    public int getQueueDepth() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * @return the number of frames thrown away because the ring was full
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * @return the number of frames written to the file
+     */
+    public long getWrittenFrames() {
+        return writtenFrames.get();
+    }
+
+    @Override
+    public void run() {
+        int frameSize = encoder.getMaxFrameSize(width);
+
+        try (LogSegments segments = new LogSegments(
+            baseLocation,
+            extension,
+            segmentSize,
+            encoder.encodeHeader(startTime, channelNames, channelTypes),
+            onSegmentFinished
+        )) {
+            int segmentNumber = segments.getCurrentNumber();
+
+            while (running || head.get() != tail.get()) {
+                long currentHead = head.get();
+
+                if (currentHead == tail.get()) {
+                    // caught up, do the slow segment work and wait for more
+                    segments.idle();
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    continue;
+                }
+
+                ByteBuffer buffer = segments.reserve(frameSize);
+
+                // a new segment has to stand on its own
+                if (segments.getCurrentNumber() != segmentNumber) {
+                    segmentNumber = segments.getCurrentNumber();
+                    encoder.reset();
+                }
+
+                int slot = (int) (currentHead % capacity);
+                encoder.encodeFrame(buffer, frameTimes[slot], frameValues[slot]);
+
+                head.lazySet(currentHead + 1);
+                writtenFrames.incrementAndGet();
+            }
+
+        } catch (IOException x) {
+            System.out.println("Could not find or create log file at location: " + baseLocation + extension);
+        }
+    }
+}
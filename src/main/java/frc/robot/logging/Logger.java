@@ -11,4 +11,13 @@ public interface Logger {
      * @return a list of the same length as the input, but with the cooresponding indexes written to
      */
     public double[] getValues(double[] values);
-}
\ No newline at end of file
+
+    /**
+     * Gets how often the logger should call {@link #getValues(double[])}. Override
+     * this for sources that are slow to read or change slowly.
+     * @return the sample rate
+     */
+    public default SampleRate getSampleRate() {
+        return SampleRate.EVERY_LOOP;
+    }
+}
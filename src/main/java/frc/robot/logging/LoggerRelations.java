@@ -1,74 +1,170 @@
 package frc.robot.logging;
 
-//TODO - add logging values
+/**
+ * Every channel the robot logs. Each relation registers itself with the
+ * {@link ChannelRegistry}, so indices are dense, in declaration order, and
+ * never shared. Use {@link #value} as the index into the logged values.
+ */
 public enum LoggerRelations {
-    //placeholder for testing
-    PLACEHOLDER(0),
-
-    //controller -must start at 0 or modifications need to oi.java
-    RIGHT_TRIGGER(42),
-    LEFT_TRIGGER(1),
-    RIGHT_BUMPER(2),
-    LEFT_BUMPER(3),
-    LEFT_STICK_X(4),
-    LEFT_STICK_Y(5),
-    RIGHT_STICK_X(6),
-    RIGHT_STICK_Y(7),
-    BTN_A(8),
-    BTN_B(9),
-    BTN_X(10),
-    BTN_Y(11),
-    BTN_START(12),
-    BTN_BACK(13),
-    DPAD_UP(14),
-    DPAD_DOWN(15),
-    DPAD_LEFT(16),
-    DPAD_RIGHT(17),
+    //controller
+    RIGHT_TRIGGER,
+    LEFT_TRIGGER,
+    RIGHT_BUMPER(ChannelType.EVENT),
+    LEFT_BUMPER(ChannelType.EVENT),
+    LEFT_STICK_X,
+    LEFT_STICK_Y,
+    RIGHT_STICK_X,
+    RIGHT_STICK_Y,
+    BTN_A(ChannelType.EVENT),
+    BTN_B(ChannelType.EVENT),
+    BTN_X(ChannelType.EVENT),
+    BTN_Y(ChannelType.EVENT),
+    BTN_START(ChannelType.EVENT),
+    BTN_BACK(ChannelType.EVENT),
+    DPAD_UP(ChannelType.EVENT),
+    DPAD_DOWN(ChannelType.EVENT),
+    DPAD_LEFT(ChannelType.EVENT),
+    DPAD_RIGHT(ChannelType.EVENT),
+
+    //launchpad
+    LAUNCHPAD_BTN_A(ChannelType.EVENT),
+    LAUNCHPAD_BTN_B(ChannelType.EVENT),
+    LAUNCHPAD_BTN_C(ChannelType.EVENT),
+    LAUNCHPAD_BTN_D(ChannelType.EVENT),
+    LAUNCHPAD_BTN_E(ChannelType.EVENT),
+    LAUNCHPAD_BTN_F(ChannelType.EVENT),
+    LAUNCHPAD_BTN_G(ChannelType.EVENT),
+    LAUNCHPAD_BTN_H(ChannelType.EVENT),
+    LAUNCHPAD_BTN_I(ChannelType.EVENT),
+    LAUNCHPAD_MISSILE_A(ChannelType.EVENT),
+    LAUNCHPAD_MISSILE_B(ChannelType.EVENT),
+    LAUNCHPAD_AXIS_A,
+    LAUNCHPAD_AXIS_B,
+    LAUNCHPAD_AXIS_C,
+    LAUNCHPAD_AXIS_D,
+    LAUNCHPAD_AXIS_E,
+    LAUNCHPAD_AXIS_F,
+    LAUNCHPAD_AXIS_G,
+    LAUNCHPAD_AXIS_H,
+
+    //joystick
+    JOYSTICK_TRIGGER(ChannelType.EVENT),
+    JOYSTICK_BTN_2(ChannelType.EVENT),
+    JOYSTICK_BTN_3(ChannelType.EVENT),
+    JOYSTICK_BTN_4(ChannelType.EVENT),
+    JOYSTICK_BTN_5(ChannelType.EVENT),
+    JOYSTICK_X,
+    JOYSTICK_Y,
 
     //motors
-    LEFT_MOTOR_POWER(18),
-    RIGHT_MOTOR_POWER(19),
-    LEFT_MOTOR_TARGET(20),
-    RIGHT_MOTOR_TARGET(21),
-    LEFT_MOTOR_POSITION(22),
-    RIGHT_MOTOR_POSITION(23),
+    LEFT_MOTOR_POWER,
+    RIGHT_MOTOR_POWER,
+    LEFT_MOTOR_TARGET,
+    RIGHT_MOTOR_TARGET,
+    LEFT_MOTOR_POSITION,
+    RIGHT_MOTOR_POSITION,
 
     //sensors
-    IMU_X_GFORCE(24),
-    IMU_Y_ANGLE(25),
-    IMU_HEADING(26),
+    IMU_X_GFORCE,
+    IMU_Y_ANGLE,
+    IMU_HEADING,
 
     //pneumatics
-    SHIFT_STATE(27),
-    
+    SHIFT_STATE(ChannelType.EVENT),
+
     //lemonlight
-    LEMONLIGHT_HAS_TARGET(28),
-    LEMONLIGHT_X_OFF(29),
-    LEMONLIGHT_Y_OFF(30),
-    
+    LEMONLIGHT_HAS_TARGET(ChannelType.EVENT),
+    LEMONLIGHT_X_OFF,
+    LEMONLIGHT_Y_OFF,
+
     //turret
-    TURRET(31),
+    TURRET,
 
     //Conveyor
-    CONVEYOR(33),
-    CONVEYOR_BREAKBEAM_ENTER(34),
-    CONVEYOR_BREAKBEAM_EXIT(35),
+    CONVEYOR,
+    CONVEYOR_BREAKBEAM_ENTER(ChannelType.EVENT),
+    CONVEYOR_BREAKBEAM_EXIT(ChannelType.EVENT),
+
+    INTAKE_ARM_INTAKE_POWER,
+    INTAKE_ARM_PIVOT_POWER,
+    INTAKE_ARM_PIVOT_POSITION,
 
-    INTAKE_ARM_INTAKE_POWER(36),
-    INTAKE_ARM_PIVOT_POWER(37),
-    INTAKE_ARM_PIVOT_POSITION(38),
+    PDP_CURRENT,
+    PDP_VOLTAGE,
 
-    PDP_CURRENT(39),
-    PDP_VOLTAGE(40),
+    //can bus
+    CAN_UTILIZATION,
+    CAN_PEAK_UTILIZATION,
+    CAN_BUS_OFF,
+    CAN_TX_FULL,
+    CAN_RX_ERRORS,
+    CAN_TX_ERRORS,
 
-    BUTTON1(41),
+    //garbage collection
+    GC_LOOP_ALLOCATED,
+    GC_COUNT(ChannelType.EVENT),
+    GC_PAUSE_TIME(ChannelType.EVENT),
+    GC_HEAP_AFTER(ChannelType.EVENT),
+
+    BUTTON1(ChannelType.EVENT),
 
     //climber
-    CLIMB_LEFT_MOTOR(39),
-    CLIMB_RIGHT_MOTOR(40);
+    CLIMB_LEFT_MOTOR,
+    CLIMB_RIGHT_MOTOR,
+
+    //logger
+    LOGGER_QUEUE_DEPTH,
+    LOGGER_DROPPED_FRAMES(ChannelType.EVENT),
+
+    //profiler
+    PROFILER_PERIODIC_TIME,
+    PROFILER_BUTTON_TIME,
+    PROFILER_EXECUTE_TIME,
+
+    //loop watchdog
+    LOOP_PERIOD,
+    LOOP_JITTER_RMS,
+    LOOP_JITTER_MAX,
+    LOOP_OVERRUNS(ChannelType.EVENT),
+    OVERRUN_LOOP_TIME(ChannelType.EVENT),
+    OVERRUN_BUTTON_TIME(ChannelType.EVENT),
+    OVERRUN_PERIODIC_TIME(ChannelType.EVENT),
+    OVERRUN_EXECUTE_TIME(ChannelType.EVENT),
+    OVERRUN_LOGGING_TIME(ChannelType.EVENT);
+
+    public final int value;
+    public final ChannelType type;
+
+    private LoggerRelations() {
+        this(ChannelType.CONTINUOUS);
+    }
+
+    private LoggerRelations(ChannelType type) {
+        this.type = type;
+        this.value = ChannelRegistry.register(name(), type);
+    }
+
+    /**
+     * Gets the number of channels, including ones registered outside this enum.
+     * Using this enum first makes sure all of its channels are registered.
+     *
+     * @return the length of the logged values array
+     */
+    public static int getChannelCount() {
+        return ChannelRegistry.getChannelCount();
+    }
+
+    /**
+     * @return the name of each channel, in index order
+     */
+    public static String[] getChannelNames() {
+        return ChannelRegistry.getChannelNames();
+    }
 
-    public int value;
-    private LoggerRelations(int value) {
-        this.value = value;
+    /**
+     * @return how each channel is stored, in index order
+     */
+    public static ChannelType[] getChannelTypes() {
+        return ChannelRegistry.getChannelTypes();
     }
 }
@@ -0,0 +1,195 @@
+package frc.robot.logging;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes numbers as ascii text straight into a byte buffer without creating
+ * any objects, so text logs don't make garbage for the collector to pause on.
+ */
+public class NumberEncoder {
+
+    // digits kept after the decimal point
+    public static final int DECIMALS = 6;
+
+    private static final long DECIMAL_SCALE = 1_000_000;
+
+    // past this doubles are written in scientific notation so scaling can't overflow
+    private static final double SCIENTIFIC_CUTOFF = 1e12;
+
+    // below this doubles are written in scientific notation, like Double.toString does
+    private static final double SMALL_CUTOFF = 1e-3;
+
+    // Math.pow(10, exponent) can't be inverted below this
+    private static final int MIN_DIRECT_EXPONENT = -300;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private NumberEncoder() {
+    }
+
+    /**
+     * Writes a long in base 10
+     *
+     * @param buffer the buffer to write into
+     * @param value the value to write
+     */
+    public static void putLong(ByteBuffer buffer, long value) {
+        if (value == Long.MIN_VALUE) {
+            // can't be negated, and never shows up in a log anyway
+            putAscii(buffer, "-9223372036854775808");
+            return;
+        }
+
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+
+        putDigits(buffer, value, digitCount(value));
+    }
+
+    /**
+     * Writes a double with up to {@link #DECIMALS} digits after the decimal point.
+     * Trailing zeros are left off, but there is always at least one decimal like
+     * {@link Double#toString(double)}. Very large and very small values are
+     * written in scientific notation, so small values don't lose their digits.
+     *
+     * @param buffer the buffer to write into
+     * @param value the value to write
+     */
+    public static void putDouble(ByteBuffer buffer, double value) {
+        if (Double.isNaN(value)) {
+            putAscii(buffer, "NaN");
+            return;
+        }
+
+        if (Double.isInfinite(value)) {
+            putAscii(buffer, value > 0 ? "Infinity" : "-Infinity");
+            return;
+        }
+
+        double magnitude = Math.abs(value);
+
+        if (magnitude >= SCIENTIFIC_CUTOFF || (magnitude < SMALL_CUTOFF && magnitude != 0)) {
+            putScientific(buffer, value < 0, magnitude);
+            return;
+        }
+
+        putFixed(buffer, value < 0, Math.round(magnitude * DECIMAL_SCALE));
+    }
+
+    /**
+     * Writes a value as exactly two digits, for times
+     *
+     * @param buffer the buffer to write into
+     * @param value a value from 0 to 99
+     */
+    public static void putTwoDigits(ByteBuffer buffer, int value) {
+        buffer.put((byte) ('0' + value / 10));
+        buffer.put((byte) ('0' + value % 10));
+    }
+
+    /**
+     * Writes a string that is known to be ascii
+     *
+     * @param buffer the buffer to write into
+     * @param text the text to write
+     */
+    public static void putAscii(ByteBuffer buffer, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a magnitude as a mantissa from 1 to 10 and an exponent
+     */
+    private static void putScientific(ByteBuffer buffer, boolean negative, double magnitude) {
+        int exponent = (int) Math.floor(Math.log10(magnitude));
+        long mantissa = scaleMantissa(magnitude, exponent);
+
+        // log10 can be one off near a power of ten, and rounding can carry the mantissa up to 10
+        if (mantissa < DECIMAL_SCALE) {
+            exponent--;
+            mantissa = scaleMantissa(magnitude, exponent);
+        } else if (mantissa >= 10 * DECIMAL_SCALE) {
+            exponent++;
+            mantissa = scaleMantissa(magnitude, exponent);
+        }
+
+        putFixed(buffer, negative, mantissa);
+        buffer.put((byte) 'E');
+        putLong(buffer, exponent);
+    }
+
+    /**
+     * Gets magnitude / 10^exponent, scaled by {@link #DECIMAL_SCALE} and rounded
+     */
+    private static long scaleMantissa(double magnitude, int exponent) {
+        double mantissa;
+
+        if (exponent < MIN_DIRECT_EXPONENT) {
+            // 10^-exponent would overflow, so part of it is applied first
+            mantissa = magnitude * 1e18 / Math.pow(10, exponent + 18);
+        } else {
+            mantissa = magnitude / Math.pow(10, exponent);
+        }
+
+        return Math.round(mantissa * DECIMAL_SCALE);
+    }
+
+    /**
+     * Writes a value that was scaled by {@link #DECIMAL_SCALE} and rounded
+     */
+    private static void putFixed(ByteBuffer buffer, boolean negative, long scaled) {
+        // values that round to zero don't get a sign
+        if (negative && scaled != 0) {
+            buffer.put((byte) '-');
+        }
+
+        long whole = scaled / DECIMAL_SCALE;
+        long fraction = scaled % DECIMAL_SCALE;
+
+        putDigits(buffer, whole, digitCount(whole));
+        buffer.put((byte) '.');
+
+        if (fraction == 0) {
+            buffer.put((byte) '0');
+            return;
+        }
+
+        int decimals = DECIMALS;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            decimals--;
+        }
+
+        putDigits(buffer, fraction, decimals);
+    }
+
+    /**
+     * Writes a positive value zero padded to a number of digits
+     */
+    private static void putDigits(ByteBuffer buffer, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            long digit = value / POWERS_OF_TEN[i];
+            buffer.put((byte) ('0' + digit));
+            value -= digit * POWERS_OF_TEN[i];
+        }
+    }
+
+    /**
+     * Counts the base 10 digits of a positive value, at least one
+     */
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,19 @@
+package frc.robot.logging;
+
+/**
+ * How often a {@link Logger} is sampled. Values are held between samples, so
+ * slow or expensive sources (CAN, I2C) don't have to be read every loop.
+ */
+public enum SampleRate {
+    EVERY_LOOP(1),
+    HZ_25(2),
+    HZ_10(5),
+    HZ_5(10),
+    HZ_1(50);
+
+    // number of 20ms robot loops between samples
+    public int loops;
+    private SampleRate(int loops) {
+        this.loops = loops;
+    }
+}
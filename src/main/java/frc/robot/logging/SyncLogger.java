@@ -1,133 +1,227 @@
 package frc.robot.logging;
 
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 
-import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.Subsystem;
 
 /**
  * Class to manage robot logging. It acts as a psuedosubsystem in order to use
  * the scheduler's periodic method to make updates.
+ *
+ * <p>
+ * Values are gathered on the robot thread and handed to a {@link LogWriter},
+ * which does the formatting and file io on its own thread. Finished log files
+ * are compressed by a {@link LogArchiver}. Each logger is
+ * sampled at its own {@link SampleRate}, and holds its last values in between.
  */
 public class SyncLogger implements Subsystem, Command {
 
     private static final String LOG_FILE_PATH = "/home/admin/";
     public final static int LOGGER_RATE = 1;
+    public final static LogFormat DEFAULT_FORMAT = LogFormat.BINARY;
 
-    private ArrayList<Logger> elements;
+    // number of frames the writer can fall behind by before frames are dropped
+    public final static int WRITER_CAPACITY = 256;
+
+    // size of each preallocated log file, a few minutes of binary frames
+    public final static int SEGMENT_SIZE = 4 << 20;
+
+    // space compressed logs can take up, and space always left free on the roboRIO
+    public final static long ARCHIVE_QUOTA = 256L << 20;
+    public final static long MIN_FREE_SPACE = 64L << 20;
+
+    private ArrayList<ScheduledLogger> elements;
     private int attempts;
     private String logFileLocation;
     private double[] values;
 
-    private Timer robotTimer = new Timer();
+    private LogFormat format;
+    private LogWriter writer;
+    private LogArchiver archiver;
+
+    // fpga time logging started at in microseconds
+    private long startTime;
 
-    private SimpleDateFormat timeStampFormatter;
     private SimpleDateFormat fileFormatter;
 
     private HashSet<Subsystem> requirements;
 
     /**
-     * @param elements all logger classes
+     * Creates a logger that writes the default format
      */
     public SyncLogger() {
+        this(DEFAULT_FORMAT);
+    }
+
+    /**
+     * @param format the file format to write
+     */
+    public SyncLogger(LogFormat format) {
+        this.format = format;
         this.elements = new ArrayList<>();
-        values = new double[LoggerRelations.values().length - 1];
+        values = new double[LoggerRelations.getChannelCount()];
+
+        // milliseconds so a log started within a second of the last doesn't reuse its name
+        fileFormatter = new SimpleDateFormat("yyyy:MM:dd:HH:mm:ss.SSS");
 
-        timeStampFormatter = new SimpleDateFormat("HH:mm:ss");
-        fileFormatter = new SimpleDateFormat("yyyy:MM:dd:HH:mm:ss");
+        archiver = new LogArchiver(LOG_FILE_PATH, ARCHIVE_QUOTA, MIN_FREE_SPACE);
 
         requirements = new HashSet<>();
         requirements.add(this);
     }
 
+    /**
+     * A logger and when it is next due to be sampled
+     */
+    private static class ScheduledLogger {
+        Logger logger;
+        int period;
+        int countdown;
+    }
+
     /**
      * adds passed in instances to logger so data from it is logged the passed in
      * must implement logger
-     * 
+     *
      * @param newElements the instances to add to the logger
      */
     public void addElements(Logger... newElements) {
-        // adds passed in instace to logger elements array
-        Collections.addAll(elements, newElements);
+        for (Logger newElement : newElements) {
+            ScheduledLogger element = new ScheduledLogger();
+            element.logger = newElement;
+            element.period = newElement.getSampleRate().loops;
+
+            // staggers slow loggers so they don't all get sampled on the same loop
+            element.countdown = elements.size() % element.period;
+
+            elements.add(element);
+        }
     }
 
     /**
-     * Creates a new log file
+     * Starts a new log and a writer for it
      */
     @Override
     public void initialize() {
-        // timer stuff
-        robotTimer.reset();
-        robotTimer.start();
+        startTime = RobotController.getFPGATime();
 
         attempts = 0;
-        values = new double[LoggerRelations.values().length];
 
-        Date timeInMillis = new Date(System.currentTimeMillis());
-        String logTimeStamp = fileFormatter.format(timeInMillis);
+        // the header names every channel, so no more can be added
+        ChannelRegistry.lock();
+        values = new double[LoggerRelations.getChannelCount()];
+
+        long wallTime = System.currentTimeMillis();
+        String logTimeStamp = fileFormatter.format(new Date(wallTime));
+
+        // the clock can repeat, like after a reboot before the driver station sets it
+        String baseLocation = LOG_FILE_PATH + "SyncLog-" + logTimeStamp;
+        logFileLocation = baseLocation;
+        for (int run = 2; logExists(logFileLocation); run++) {
+            logFileLocation = baseLocation + "_" + run;
+        }
+
+        if (writer != null) {
+            writer.close();
+        } else {
+            // first log, clean up after earlier runs before anything new is written
+            archiver.start();
+        }
 
-        logFileLocation = LOG_FILE_PATH + "SyncLog-" + logTimeStamp + ".csv";
+        writer = new LogWriter(
+            logFileLocation,
+            format.extension,
+            SEGMENT_SIZE,
+            archiver::archive,
+            format.createEncoder(),
+            wallTime,
+            LoggerRelations.getChannelNames(),
+            LoggerRelations.getChannelTypes(),
+            WRITER_CAPACITY
+        );
+        writer.start();
     }
 
     /**
-     * Is run every loop. Will log data based on the rate value
+     * Is run every loop. Samples the loggers that are due and will log data
+     * based on the rate value
      */
     @Override
     public void execute() {
+        getLogData();
+
         if (attempts == 0) {
             writeLogFile();
         }
 
-        attempts = (attempts++) % LOGGER_RATE;
+        attempts = (attempts + 1) % LOGGER_RATE;
+    }
+
+    /**
+     * Closes the log file once everything queued has been written
+     */
+    @Override
+    public void end(boolean interrupted) {
+        writer.close();
     }
 
     /**
-     * Writes a new entry in an open log file
+     * Queues a new entry to be written to the log file
      */
     private void writeLogFile() {
-        getFormatedLogData();
-        try (FileWriter writer = new FileWriter(logFileLocation, true)) {
-            writer.append(timeStampFormatter.format(System.currentTimeMillis()) + ", ");
-            writer.append(Math.round(robotTimer.get() * 1000) + ", ");
-            writer.append(getFormatedLogData());
-            writer.append("\n");
-
-        } catch (IOException x) {
-            System.out.println("Could not find or create log file at location: " + logFileLocation);
-        }
+        values[LoggerRelations.LOGGER_QUEUE_DEPTH.value] = writer.getQueueDepth();
+        values[LoggerRelations.LOGGER_DROPPED_FRAMES.value] = writer.getDroppedFrames();
+
+        writer.offer(RobotController.getFPGATime() - startTime, values);
     }
 
     /**
-     * Retrieves log data from logging classes
+     * Retrieves log data from the logging classes that are due to be sampled
      */
     private void getLogData() {
-        for (Logger loggerImplementation : elements) {
-            values = loggerImplementation.getValues(values);
+        for (int i = 0; i < elements.size(); i++) {
+            ScheduledLogger element = elements.get(i);
+
+            if (element.countdown == 0) {
+                element.logger.getValues(values);
+                element.countdown = element.period;
+            }
+
+            element.countdown--;
         }
     }
 
     /**
-     * Formats log data into a comma seperated string
-     * 
-     * @return formated data
+     * Checks for the first segment of a log, raw or archived
      */
-    private String getFormatedLogData() {
-        getLogData();
-        String data = Arrays.toString(values);
-        return data.substring(1, data.length());
+    private boolean logExists(String location) {
+        File first = new File(location + "-000" + format.extension);
+        return first.exists() || new File(first.getPath() + LogArchiver.ARCHIVE_EXTENSION).exists();
+    }
+
+    /**
+     * @return the number of frames waiting to be written
+     */
+    public int getQueueDepth() {
+        return writer == null ? 0 : writer.getQueueDepth();
+    }
+
+    /**
+     * @return the number of frames dropped because the writer fell behind
+     */
+    public long getDroppedFrames() {
+        return writer == null ? 0 : writer.getDroppedFrames();
     }
 
     @Override
     public Set<Subsystem> getRequirements() {
         return requirements;
     }
-}
\ No newline at end of file
+}
@@ -24,14 +24,14 @@ public class JoystickDriver extends GenericDriver implements Subsystem {
 		super(port, logger);
 
 		//TODO - make sure ports are correct
-		trigger = generateLoggerButton(1, LoggerRelations.PLACEHOLDER);
+		trigger = generateLoggerButton(1, LoggerRelations.JOYSTICK_TRIGGER);
 
-		button2 = generateLoggerButton(2, LoggerRelations.PLACEHOLDER);
-		button3 = generateLoggerButton(3, LoggerRelations.PLACEHOLDER);
-		button4 = generateLoggerButton(4, LoggerRelations.PLACEHOLDER);
-		button5 = generateLoggerButton(5, LoggerRelations.PLACEHOLDER);
+		button2 = generateLoggerButton(2, LoggerRelations.JOYSTICK_BTN_2);
+		button3 = generateLoggerButton(3, LoggerRelations.JOYSTICK_BTN_3);
+		button4 = generateLoggerButton(4, LoggerRelations.JOYSTICK_BTN_4);
+		button5 = generateLoggerButton(5, LoggerRelations.JOYSTICK_BTN_5);
 
-		axisX = generateLoggerAxis(0, LoggerRelations.PLACEHOLDER);
-		axisY = generateLoggerAxis(1, LoggerRelations.PLACEHOLDER);
+		axisX = generateLoggerAxis(0, LoggerRelations.JOYSTICK_X);
+		axisY = generateLoggerAxis(1, LoggerRelations.JOYSTICK_Y);
 	}
 }
\ No newline at end of file
@@ -44,35 +44,34 @@ public class LaunchpadDriver extends GenericDriver {
     public LaunchpadDriver(int port, SyncLogger logger) {
 		super(port, logger);
 
-        //TODO - create actual logger values
-        buttonA = generateLEDButton(1, LoggerRelations.PLACEHOLDER);
-        buttonB = generateLEDButton(2, LoggerRelations.PLACEHOLDER);
-        buttonC = generateLEDButton(3, LoggerRelations.PLACEHOLDER);
-        buttonD = generateLEDButton(4, LoggerRelations.PLACEHOLDER);
-        buttonE = generateLEDButton(5, LoggerRelations.PLACEHOLDER);
-        buttonF = generateLEDButton(6, LoggerRelations.PLACEHOLDER);
-        buttonG = generateLEDButton(7, LoggerRelations.PLACEHOLDER);
-        buttonH = generateLEDButton(8, LoggerRelations.PLACEHOLDER);
-        buttonI = generateLEDButton(9, LoggerRelations.PLACEHOLDER);
-
-        missileA = generateLoggerButton(10, LoggerRelations.PLACEHOLDER);
-        missileB = generateLoggerButton(11, LoggerRelations.PLACEHOLDER);
+        buttonA = generateLEDButton(1, LoggerRelations.LAUNCHPAD_BTN_A);
+        buttonB = generateLEDButton(2, LoggerRelations.LAUNCHPAD_BTN_B);
+        buttonC = generateLEDButton(3, LoggerRelations.LAUNCHPAD_BTN_C);
+        buttonD = generateLEDButton(4, LoggerRelations.LAUNCHPAD_BTN_D);
+        buttonE = generateLEDButton(5, LoggerRelations.LAUNCHPAD_BTN_E);
+        buttonF = generateLEDButton(6, LoggerRelations.LAUNCHPAD_BTN_F);
+        buttonG = generateLEDButton(7, LoggerRelations.LAUNCHPAD_BTN_G);
+        buttonH = generateLEDButton(8, LoggerRelations.LAUNCHPAD_BTN_H);
+        buttonI = generateLEDButton(9, LoggerRelations.LAUNCHPAD_BTN_I);
+
+        missileA = generateLoggerButton(10, LoggerRelations.LAUNCHPAD_MISSILE_A);
+        missileB = generateLoggerButton(11, LoggerRelations.LAUNCHPAD_MISSILE_B);
 
         bigLEDGreen = getLEDLambda(10);
         bigLEDRed = getLEDLambda(11);
 
-        axisA = generateLoggerAxis(0, LoggerRelations.PLACEHOLDER);
-        axisB = generateLoggerAxis(1, LoggerRelations.PLACEHOLDER);
+        axisA = generateLoggerAxis(0, LoggerRelations.LAUNCHPAD_AXIS_A);
+        axisB = generateLoggerAxis(1, LoggerRelations.LAUNCHPAD_AXIS_B);
 
         axisA.setDeadzone(0);
         axisB.setDeadzone(0);
 
-        axisC = generateLoggerAxis(3, LoggerRelations.PLACEHOLDER);
-        axisD = generateLoggerAxis(4, LoggerRelations.PLACEHOLDER);
-        axisE = generateLoggerAxis(5, LoggerRelations.PLACEHOLDER);
-        axisF = generateLoggerAxis(6, LoggerRelations.PLACEHOLDER);
-        axisG = generateLoggerAxis(7, LoggerRelations.PLACEHOLDER);
-        axisH = generateLoggerAxis(8, LoggerRelations.PLACEHOLDER);
+        axisC = generateLoggerAxis(3, LoggerRelations.LAUNCHPAD_AXIS_C);
+        axisD = generateLoggerAxis(4, LoggerRelations.LAUNCHPAD_AXIS_D);
+        axisE = generateLoggerAxis(5, LoggerRelations.LAUNCHPAD_AXIS_E);
+        axisF = generateLoggerAxis(6, LoggerRelations.LAUNCHPAD_AXIS_F);
+        axisG = generateLoggerAxis(7, LoggerRelations.LAUNCHPAD_AXIS_G);
+        axisH = generateLoggerAxis(8, LoggerRelations.LAUNCHPAD_AXIS_H);
     }
 
     protected LEDButton generateLEDButton(int output, LoggerRelations logReference) {
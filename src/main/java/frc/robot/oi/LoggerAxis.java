@@ -1,5 +1,6 @@
 package frc.robot.oi;
 
+import frc.robot.logging.LogReplay;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.logging.SyncLogger;
@@ -7,7 +8,8 @@ import frc.robot.utilities.Functions;
 import frc.robot.utilities.functionalinterfaces.AxisGetter;
 
 /**
- * Wrapper for axes that allows them to be both logged and passed as variables
+ * Wrapper for axes that allows them to be both logged and passed as variables.
+ * Reads the recorded axis instead while a log is being replayed.
  */
 public class LoggerAxis implements Logger {
 
@@ -28,7 +30,7 @@ public class LoggerAxis implements Logger {
 	}
 
 	public LoggerAxis(AxisGetter getter, LoggerRelations logReference, double deadzone) {
-		this.getter = getter;
+		this.getter = LogReplay.axis(logReference, getter);
 		this.logReference = logReference;
 		this.deadzone = deadzone;
 	}
@@ -66,6 +68,6 @@ public class LoggerAxis implements Logger {
 	@Override
 	public double[] getValues(double[] values) {
 		values[logReference.value] = getter.get();
-		return null;
+		return values;
 	}
 }
\ No newline at end of file
@@ -1,13 +1,15 @@
 package frc.robot.oi;
 
 import edu.wpi.first.wpilibj2.command.button.Button;
+import frc.robot.logging.LogReplay;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.logging.SyncLogger;
 import frc.robot.utilities.functionalinterfaces.ButtonGetter;
 
 /**
- * Wrapper class for WPI's button that adds logging functionality
+ * Wrapper class for WPI's button that adds logging functionality. Reads the
+ * recorded button instead while a log is being replayed.
  */
 public class LoggerButton extends Button implements Logger {
 
@@ -18,14 +20,14 @@ public class LoggerButton extends Button implements Logger {
         super();
 
         this.logReference = logReference;
-        this.getter = getter;
+        this.getter = LogReplay.button(logReference, getter);
     }
 
     public LoggerButton(ButtonGetter getter, LoggerRelations logReference, SyncLogger logger) {
         super();
 
         this.logReference = logReference;
-        this.getter = getter;
+        this.getter = LogReplay.button(logReference, getter);
 
         logger.addElements(this);
     }
@@ -41,7 +43,7 @@ public class LoggerButton extends Button implements Logger {
 
     @Override
     public double[] getValues(double[] values) {
-        values[logReference.value] = super.get() ? 1 : 0;
+        values[logReference.value] = get() ? 1 : 0;
         return values;
     }    
 }
@@ -1,14 +1,16 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANEncoder;
 import com.revrobotics.CANPIDController;
-import com.revrobotics.CANSparkMax;
 import com.revrobotics.ControlType;
 import com.revrobotics.CANSparkMaxLowLevel.MotorType;
 
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
 
+import frc.robot.devices.CachedSparkMax;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
 import frc.robot.utilities.Ports;
+import frc.robot.utilities.SensorSnapshot;
 
 public class ClimberArm extends SubsystemBase {
 
@@ -29,30 +31,39 @@ public class ClimberArm extends SubsystemBase {
     LEFT_CONTROL_PANEL_POSITION = 205,
     CLIMB_POSITION = 600;
 
-    private CANSparkMax motor;
-    private CANEncoder encoder;
+    private CachedSparkMax motor;
     private CANPIDController pidController;
 
+    private SensorSnapshot snapshot;
+    private int positionSlot;
+
     private static final double
     defaultP = 0,
     defaultI = 0,
     defaultD = 0;
     
     public ClimberArm(Sides side) {
-        motor = new CANSparkMax(side.motorPort, MotorType.kBrushless);
+        motor = new CachedSparkMax(side.motorPort, MotorType.kBrushless);
         motor.setInverted(side.inverted);
+        StatusFrameManager.configure(motor, Profile.POSITION);
 
-        encoder = motor.getEncoder();
         pidController = motor.getPIDController();
         resetPID();
+
+        snapshot = SensorSnapshot.getInstance();
+        positionSlot = snapshot.register(motor::getEncoderPosition);
     }
 
+    /**
+     * @return the encoder position at the start of the loop
+     */
     public double getEncoderPosition() {
-        return encoder.getPosition();
+        return snapshot.get(positionSlot);
     }
 
     public void setEncoderPosition(double position) {
-        encoder.setPosition(position);
+        motor.setEncoderPosition(position);
+        snapshot.set(positionSlot, position);
     }
 
     public void setPID(double P, double I, double D) {
@@ -74,6 +85,6 @@ public class ClimberArm extends SubsystemBase {
     }
 
     public void setPosition(double setpoint) {
-        pidController.setReference(setpoint, ControlType.kPosition);
+        motor.setReference(setpoint, ControlType.kPosition);
     }
 }
\ No newline at end of file
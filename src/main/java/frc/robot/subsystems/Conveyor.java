@@ -8,15 +8,19 @@
 package frc.robot.subsystems;
 
 import com.ctre.phoenix.motorcontrol.ControlMode;
-import com.ctre.phoenix.motorcontrol.can.VictorSPX;
 
 import edu.wpi.first.wpilibj.DigitalInput;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.StartEndCommand;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.devices.CachedVictorSPX;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
+import frc.robot.logging.LogReplay;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.utilities.Ports;
+import frc.robot.utilities.functionalinterfaces.ButtonGetter;
 
 /**
  * Subsystem to control the internal conveyor mechanism of the robot
@@ -39,12 +43,16 @@ public class Conveyor extends SubsystemBase implements Logger {
 	private double power;
 
 	// conveyor motors
-	private VictorSPX conveyorMotor;
+	private CachedVictorSPX conveyorMotor;
 
 	// breakbeam sensors
 	private DigitalInput breakbeamEnter;
 	private DigitalInput breakbeamExit;
 
+	// breakbeam states, from the log when replaying
+	private ButtonGetter breakbeamEnterState;
+	private ButtonGetter breakbeamExitState;
+
 	private boolean 
 	safeShootMode,
 	shootMode,
@@ -56,11 +64,15 @@ public class Conveyor extends SubsystemBase implements Logger {
 	toggleIntakeMode;
 
 	public Conveyor() {
-		conveyorMotor = new VictorSPX(Ports.CONVEYOR);
+		conveyorMotor = new CachedVictorSPX(Ports.CONVEYOR);
+		StatusFrameManager.configure(conveyorMotor, Profile.OPEN_LOOP);
 
 		breakbeamEnter = new DigitalInput(Ports.BREAKBEAM_ENTER);
 		breakbeamExit = new DigitalInput(Ports.BREAKBEAM_EXIT);
 
+		breakbeamEnterState = LogReplay.button(LoggerRelations.CONVEYOR_BREAKBEAM_ENTER, breakbeamEnter::get);
+		breakbeamExitState = LogReplay.button(LoggerRelations.CONVEYOR_BREAKBEAM_EXIT, breakbeamExit::get);
+
 		power = 0;
 
 		// Internal commands for toggling shooter flags
@@ -96,7 +108,7 @@ public class Conveyor extends SubsystemBase implements Logger {
 	 * @return the breakbeam state where true is unbroken and false is broken
 	 */
 	public boolean getBreakBeamEnter() {
-		return breakbeamEnter.get();
+		return breakbeamEnterState.get();
 	}
 
 	/**
@@ -105,7 +117,7 @@ public class Conveyor extends SubsystemBase implements Logger {
 	 * @return the breakbeam state where true is unbroken and false is broken
 	 */
 	public boolean getBreakBeamExit() {
-		return breakbeamExit.get();
+		return breakbeamExitState.get();
 	}
 
 	/**
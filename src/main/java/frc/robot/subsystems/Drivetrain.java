@@ -1,12 +1,17 @@
 package frc.robot.subsystems;
 
 import edu.wpi.first.wpilibj2.command.Subsystem;
+import frc.robot.devices.CachedSparkMax;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
+import frc.robot.logging.LogReplay;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.utilities.Functions;
 import frc.robot.utilities.Ports;
+import frc.robot.utilities.SensorSnapshot;
+import frc.robot.utilities.functionalinterfaces.AxisGetter;
 
-import com.revrobotics.CANEncoder;
 import com.revrobotics.CANPIDController;
 import com.revrobotics.CANSparkMax;
 import com.revrobotics.ControlType;
@@ -17,21 +22,27 @@ import com.revrobotics.CANSparkMaxLowLevel.MotorType;
  */
 public class Drivetrain implements Subsystem, Logger {
 
-    private static final double
+    public static final double
     P = .05,
     I = 0,//.00004,
     D = 0;//.00001;
 
+    // inches
+    public static final double WHEEL_DIAMETER = 6;
+
+    // most power the position loop can use
+    public static final double CLOSED_LOOP_MAX_OUTPUT = 0.25;
+
     //data for logger
     private double rightMotorPower = 0, leftMotorPower = 0, rightMotorTarget = 0, leftMotorTarget = 0;
 
     // left motors
-    private CANSparkMax left = new CANSparkMax(Ports.LEFT_DRIVE_MAIN, MotorType.kBrushless);
+    private CachedSparkMax left = new CachedSparkMax(Ports.LEFT_DRIVE_MAIN, MotorType.kBrushless);
     private CANSparkMax leftMiddle = new CANSparkMax(Ports.LEFT_DRIVE_0, MotorType.kBrushless);
     private CANSparkMax leftBack = new CANSparkMax(Ports.LEFT_DRIVE_1, MotorType.kBrushless);
 
     // right motors
-    private CANSparkMax right = new CANSparkMax(Ports.RIGHT_DRIVE_MAIN, MotorType.kBrushless);
+    private CachedSparkMax right = new CachedSparkMax(Ports.RIGHT_DRIVE_MAIN, MotorType.kBrushless);
     private CANSparkMax rightMiddle = new CANSparkMax(Ports.RIGHT_DRIVE_0, MotorType.kBrushless);
     private CANSparkMax rightBack = new CANSparkMax(Ports.RIGHT_DRIVE_1, MotorType.kBrushless);
 
@@ -39,9 +50,14 @@ public class Drivetrain implements Subsystem, Logger {
     private CANPIDController leftPID = left.getPIDController();
     private CANPIDController rightPID = right.getPIDController();
 
-    // encoders
-    private CANEncoder leftEncoder = left.getEncoder();
-    private CANEncoder rightEncoder = right.getEncoder();
+    // encoder positions, from the log when replaying
+    private AxisGetter leftPosition = LogReplay.axis(LoggerRelations.LEFT_MOTOR_POSITION, left::getEncoderPosition);
+    private AxisGetter rightPosition = LogReplay.axis(LoggerRelations.RIGHT_MOTOR_POSITION, right::getEncoderPosition);
+
+    // encoder positions are read once a loop
+    private SensorSnapshot snapshot = SensorSnapshot.getInstance();
+    private int leftPositionSlot = snapshot.register(leftPosition);
+    private int rightPositionSlot = snapshot.register(rightPosition);
 
     private double oldOpenRampRate; // the previous ramp rate sent to the motors
     private double oldClosedRampRate; // the previous ramp rate sent to the motors
@@ -61,13 +77,23 @@ public class Drivetrain implements Subsystem, Logger {
         rightMiddle.follow(right);
         rightBack.follow(right);
 
+        // only the leaders' positions are read
+        StatusFrameManager.configure(left, Profile.POSITION);
+        StatusFrameManager.configure(right, Profile.POSITION);
+        StatusFrameManager.configure(leftMiddle, Profile.FOLLOWER);
+        StatusFrameManager.configure(leftBack, Profile.FOLLOWER);
+        StatusFrameManager.configure(rightMiddle, Profile.FOLLOWER);
+        StatusFrameManager.configure(rightBack, Profile.FOLLOWER);
+
         // inverts right side
         left.setInverted(true);
         right.setInverted(false);
 
         // sets pid values
-        leftEncoder.setPosition(0);
-        rightEncoder.setPosition(0);
+        left.setEncoderPosition(0);
+        right.setEncoderPosition(0);
+        snapshot.set(leftPositionSlot, 0);
+        snapshot.set(rightPositionSlot, 0);
 
         leftPID.setP(P);
         leftPID.setI(I);
@@ -79,8 +105,8 @@ public class Drivetrain implements Subsystem, Logger {
         rightPID.setD(D);
         rightPID.setOutputRange(OUTPUT_MIN, OUTPUT_MAX);
 
-        leftPID.setOutputRange(-0.25, 0.25);
-        rightPID.setOutputRange(-0.25, 0.25);
+        leftPID.setOutputRange(-CLOSED_LOOP_MAX_OUTPUT, CLOSED_LOOP_MAX_OUTPUT);
+        rightPID.setOutputRange(-CLOSED_LOOP_MAX_OUTPUT, CLOSED_LOOP_MAX_OUTPUT);
 
         left.disableVoltageCompensation();
         right.disableVoltageCompensation();
@@ -124,7 +150,7 @@ public class Drivetrain implements Subsystem, Logger {
     public void setLeftMotorTarget(double position) {
         leftMotorPower = 2;
         leftMotorTarget = position;
-        leftPID.setReference(position, ControlType.kPosition);
+        left.setReference(position, ControlType.kPosition);
     }
 
     /**
@@ -135,7 +161,7 @@ public class Drivetrain implements Subsystem, Logger {
     public void setRightMotorTarget(double position) {
         rightMotorPower = 2;
         rightMotorTarget = position;
-        rightPID.setReference(position, ControlType.kPosition);
+        right.setReference(position, ControlType.kPosition);
     }
 
     /**
@@ -145,7 +171,8 @@ public class Drivetrain implements Subsystem, Logger {
      * @param position the position for the encoder to register in rotations
      */
     public void setLeftEncoder(int position) {
-        leftEncoder.setPosition(position);
+        left.setEncoderPosition(position);
+        snapshot.set(leftPositionSlot, position);
     }
 
     /**
@@ -155,25 +182,26 @@ public class Drivetrain implements Subsystem, Logger {
      * @param position the position for the encoder to register in rotations
      */
     public void setRightEncoder(double position) {
-        rightEncoder.setPosition(position);
+        right.setEncoderPosition(position);
+        snapshot.set(rightPositionSlot, position);
     }
 
     /**
-     * Returns the current position of right side of the drivetrain
+     * Returns the position of right side of the drivetrain at the start of the loop
      * 
      * @return position of motor in rotations
      */
     public double getRightEncoderPosition() {
-        return rightEncoder.getPosition();
+        return snapshot.get(rightPositionSlot);
     }
 
     /**
-     * Returns the current position of right side of the drivetrain
+     * Returns the position of left side of the drivetrain at the start of the loop
      * 
      * @return position of motor in rotations
      */
     public double getLeftEncoderPosition() {
-        return leftEncoder.getPosition();
+        return snapshot.get(leftPositionSlot);
     }
 
     /**
@@ -2,11 +2,13 @@ package frc.robot.subsystems;
 
 import com.ctre.phoenix.motorcontrol.ControlMode;
 import com.ctre.phoenix.motorcontrol.NeutralMode;
-import com.ctre.phoenix.motorcontrol.can.VictorSPX;
 
 import edu.wpi.first.wpilibj.DigitalInput;
 import edu.wpi.first.wpilibj.Solenoid;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.devices.CachedVictorSPX;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.utilities.Functions;
@@ -27,7 +29,7 @@ public class IntakeArm extends SubsystemBase implements Logger {
 
 	public States state;
 
-	private VictorSPX 
+	private CachedVictorSPX 
 	intake,
 	pivot;
 
@@ -41,8 +43,11 @@ public class IntakeArm extends SubsystemBase implements Logger {
 	loggerIntakePower = 0;
 
 	public IntakeArm() {
-		intake = new VictorSPX(Ports.INTAKE_ARM_INTAKE);
-		pivot = new VictorSPX(Ports.INTAKE_ARM_PIVOT);
+		intake = new CachedVictorSPX(Ports.INTAKE_ARM_INTAKE);
+		pivot = new CachedVictorSPX(Ports.INTAKE_ARM_PIVOT);
+		StatusFrameManager.configure(intake, Profile.OPEN_LOOP);
+		StatusFrameManager.configure(pivot, Profile.OPEN_LOOP);
+
 		lock = new Solenoid(Ports.PCM_1, Ports.INTAKE_LOCK);
 
 		upperLimit = new DigitalInput(Ports.UPPER_LIMIT);
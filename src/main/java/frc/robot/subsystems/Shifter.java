@@ -11,6 +11,11 @@ import frc.robot.utilities.Ports;
 
 public class Shifter implements Subsystem, Logger{
 
+    // motor rotations per wheel rotation in each gear
+    public static final double
+    LOW_GEAR_RATIO = 19.61,
+    HIGH_GEAR_RATIO = 9.07;
+
     private DoubleSolenoid shift;
     private boolean oldShift;
     private LEDRange ShiftLeds;
@@ -1,13 +1,16 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANEncoder;
-import com.revrobotics.CANSparkMax;
 import com.revrobotics.CANSparkMaxLowLevel.MotorType;
 
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.devices.CachedSparkMax;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
 import frc.robot.utilities.Functions;
 import frc.robot.utilities.Ports;
-import frc.robot.utilities.RollingAverage;
+import frc.robot.utilities.SensorSnapshot;
+import frc.robot.utilities.filters.Filter;
+import frc.robot.utilities.filters.MovingAverage;
 
 /**
  * Subsystem to control the shooter
@@ -20,18 +23,23 @@ public class Shooter extends SubsystemBase {
     //TODO - tune spooled velocity
     private final static double SPOOLED_VELOCITY = 12;
 
-    private CANSparkMax shooterMotor;
-    private CANEncoder shooterEncoder;
+    private CachedSparkMax shooterMotor;
 
-    private RollingAverage average;
+    private SensorSnapshot snapshot;
+    private int velocitySlot;
+
+    private Filter average;
 
     public Shooter() {
-        shooterMotor = new CANSparkMax(Ports.SHOOTER, MotorType.kBrushed);
-        shooterEncoder = shooterMotor.getEncoder();
+        shooterMotor = new CachedSparkMax(Ports.SHOOTER, MotorType.kBrushed);
 
         shooterMotor.setClosedLoopRampRate(0);
+        StatusFrameManager.configure(shooterMotor, Profile.VELOCITY);
+
+        snapshot = SensorSnapshot.getInstance();
+        velocitySlot = snapshot.register(shooterMotor::getEncoderVelocity);
 
-        average = new RollingAverage(10);
+        average = new MovingAverage(10);
     }
 
     /**
@@ -52,12 +60,12 @@ public class Shooter extends SubsystemBase {
     }
 
     /**
-     * Gets the velocity of the shooter
+     * Gets the velocity of the shooter at the start of the loop
      * 
      * @return the velocity
      */
     public double getRPM() {
-        return shooterEncoder.getVelocity();
+        return snapshot.get(velocitySlot);
     }
 
     /**
@@ -66,11 +74,11 @@ public class Shooter extends SubsystemBase {
      * @return if it's spooled
      */
     public boolean spooled() {
-        return average.getAverage() >= SPOOLED_VELOCITY; 
+        return average.get() >= SPOOLED_VELOCITY; 
     }
 
     @Override
     public void periodic() {
-        average.update(getRPM());
+        average.calculate(getRPM());
     }
 }
\ No newline at end of file
@@ -1,18 +1,20 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.CANEncoder;
 import com.revrobotics.CANPIDController;
-import com.revrobotics.CANSparkMax;
 import com.revrobotics.ControlType;
-import com.revrobotics.CANSparkMax.SoftLimitDirection;
 import com.revrobotics.CANSparkMaxLowLevel.MotorType;
 
 import edu.wpi.first.wpilibj.DigitalInput;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.devices.CachedSparkMax;
+import frc.robot.devices.StatusFrameManager;
+import frc.robot.devices.StatusFrameManager.Profile;
 import frc.robot.logging.Logger;
 import frc.robot.logging.LoggerRelations;
 import frc.robot.utilities.Functions;
+import frc.robot.utilities.PositionHistory;
 import frc.robot.utilities.Ports;
+import frc.robot.utilities.SensorSnapshot;
 
 
 /**
@@ -20,36 +22,102 @@ import frc.robot.utilities.Ports;
  */
 public class Turret extends SubsystemBase implements Logger {
 
+    // the gear ratio hasn't been measured and the position loop hasn't been
+    // tuned, until both are the vision commands don't aim and the gains are 0
+    public static final boolean AIMING_ENABLED = false;
+
+    // encoder rotations per degree from the gear ratio, positive should turn right
+    public static final double ROTATIONS_PER_DEGREE = 0;
+
+    private static final double
+    P = 0,
+    I = 0,
+    D = 0;
+
+    // loops of encoder positions to keep, enough to cover the camera's latency
+    private static final int HISTORY_SIZE = 25;
+
     private double oldPower;
 
-    private CANSparkMax turret;
-    private CANEncoder encoder;
+    private CachedSparkMax turret;
     private CANPIDController pidController;
 
     private DigitalInput limitOne;
     private DigitalInput limitTwo;
 
+    private SensorSnapshot snapshot;
+    private int positionSlot;
+    private PositionHistory history;
+
     public Turret() {
         oldPower = 0;
 
-        turret = new CANSparkMax(Ports.TURRET, MotorType.kBrushless);
-        encoder = turret.getEncoder();
+        turret = new CachedSparkMax(Ports.TURRET, MotorType.kBrushless);
         pidController = turret.getPIDController();
 
+        StatusFrameManager.configure(turret, Profile.FAST_POSITION);
+
         //limitOne = new DigitalInput(Ports.TURRET_LIMIT_ONE.port);
         //limitTwo = new DigitalInput(Ports.TURRET_LIMIT_TWO.port);
 
         turret.setClosedLoopRampRate(0);
         pidController.setOutputRange(-1, 1);
+        pidController.setP(P);
+        pidController.setI(I);
+        pidController.setD(D);
 
         turret.setInverted(true);
+
+        snapshot = SensorSnapshot.getInstance();
+        positionSlot = snapshot.register(turret::getEncoderPosition);
+        history = new PositionHistory(HISTORY_SIZE);
+    }
+
+    /**
+     * Records where the turret was this loop
+     */
+    @Override
+    public void periodic() {
+        history.add(snapshot.getTimestamp(), getPosition());
     }
 
     /**
      * Sets the encoder position to 0
      */
     public void resetEncoder() {
-        encoder.setPosition(0);
+        turret.setEncoderPosition(0);
+        snapshot.set(positionSlot, 0);
+        history.clear();
+    }
+
+    /**
+     * @return the encoder position at the start of the loop in rotations
+     */
+    public double getPosition() {
+        return snapshot.get(positionSlot);
+    }
+
+    /**
+     * Gets where the turret was at a time in the last half second
+     *
+     * @param time the fpga time in microseconds
+     * @return the encoder position at that time in rotations
+     */
+    public double getPositionAt(long time) {
+        return history.get(time);
+    }
+
+    /**
+     * Gets the encoder position that points at a target seen by the camera.
+     * The offset is added to where the turret was when the image was taken, not
+     * where it is now, so the turret moving since then doesn't count twice.
+     *
+     * @param offset the target's horizontal offset in degrees
+     * @param captureTime the fpga time the image was taken at in microseconds
+     * @return the encoder position to aim at in rotations
+     */
+    public double getTargetPosition(double offset, long captureTime) {
+        return getPositionAt(captureTime) + offset * ROTATIONS_PER_DEGREE;
     }
 
     /**
@@ -59,8 +127,8 @@ public class Turret extends SubsystemBase implements Logger {
         resetEncoder();
 
         //TODO - Make sure directions are correct and make values correct based on gear ratios
-        turret.setSoftLimit(SoftLimitDirection.kForward, 0);
-        turret.setSoftLimit(SoftLimitDirection.kReverse, 0);
+        turret.setSoftLimit(CachedSparkMax.SoftLimitDirection.kForward, 0);
+        turret.setSoftLimit(CachedSparkMax.SoftLimitDirection.kReverse, 0);
     }
 
     /**
@@ -98,7 +166,7 @@ public class Turret extends SubsystemBase implements Logger {
      * @param value new setpoint for the motor
      */
     public void setTarget(double value) {
-        pidController.setReference(value, ControlType.kPosition);
+        turret.setReference(value, ControlType.kPosition);
     }
 
     /**
@@ -0,0 +1,83 @@
+package frc.robot.utilities;
+
+/**
+ * Ring buffer of timestamped positions, for finding where a mechanism was when
+ * a delayed measurement (like a camera frame) was taken.
+ */
+public class PositionHistory {
+
+    private final long[] times;
+    private final double[] positions;
+
+    // index the next position goes in
+    private int head;
+    private int count;
+
+    /**
+     * @param size the number of positions to keep
+     */
+    public PositionHistory(int size) {
+        times = new long[size];
+        positions = new double[size];
+    }
+
+    /**
+     * Adds a position. Times must not go backwards.
+     *
+     * @param time the time of the position in microseconds
+     * @param position the position
+     */
+    public void add(long time, double position) {
+        times[head] = time;
+        positions[head] = position;
+
+        head = (head + 1) % times.length;
+        count = Math.min(count + 1, times.length);
+    }
+
+    /**
+     * Gets the position at a time, interpolating between the positions around
+     * it. Times outside the history give the oldest or newest position.
+     *
+     * @param time the time in microseconds
+     * @return the position at that time, or 0 if there are no positions
+     */
+    public double get(long time) {
+        if (count == 0) {
+            return 0;
+        }
+
+        // walks back from the newest position, the time asked for is usually recent
+        int newer = index(count - 1);
+
+        if (time >= times[newer]) {
+            return positions[newer];
+        }
+
+        for (int i = count - 2; i >= 0; i--) {
+            int older = index(i);
+
+            if (times[older] <= time) {
+                double fraction = (double) (time - times[older]) / (times[newer] - times[older]);
+                return positions[older] + (positions[newer] - positions[older]) * fraction;
+            }
+
+            newer = older;
+        }
+
+        return positions[newer];
+    }
+
+    /**
+     * Removes every position
+     */
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    // the index of the ith oldest position
+    private int index(int i) {
+        return (head - count + i + times.length) % times.length;
+    }
+}
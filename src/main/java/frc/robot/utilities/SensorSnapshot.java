@@ -0,0 +1,106 @@
+package frc.robot.utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.wpi.first.wpilibj.RobotController;
+
+import frc.robot.utilities.functionalinterfaces.AxisGetter;
+
+/**
+ * Reads every registered sensor once at the start of each loop. Reading a CAN
+ * device goes through JNI every time, so commands, loggers and dashboards read
+ * the snapshot instead. Everything sees the same values for the whole loop.
+ */
+public class SensorSnapshot {
+
+    private static SensorSnapshot instance;
+
+    private final ArrayList<AxisGetter> sensors = new ArrayList<>();
+    private AxisGetter[] sources = new AxisGetter[0];
+    private double[] values = new double[0];
+
+    private long loop;
+    private long timestamp;
+
+    /**
+     * @return the snapshot everything shares
+     */
+    public static synchronized SensorSnapshot getInstance() {
+        if (instance == null) {
+            instance = new SensorSnapshot();
+        }
+
+        return instance;
+    }
+
+    private SensorSnapshot() {
+    }
+
+    /**
+     * Adds a sensor to be read every loop. It is read once straight away so the
+     * snapshot has a value before the first loop.
+     *
+     * @param sensor the getter for the sensor
+     * @return the slot to read the sensor from with {@link #get(int)}
+     */
+    public int register(AxisGetter sensor) {
+        sensors.add(sensor);
+        sources = sensors.toArray(new AxisGetter[0]);
+
+        values = Arrays.copyOf(values, sources.length);
+        values[sources.length - 1] = sensor.get();
+
+        return sources.length - 1;
+    }
+
+    /**
+     * Reads every sensor. Call once at the start of each loop, before anything
+     * uses the values.
+     */
+    public void update() {
+        timestamp = RobotController.getFPGATime();
+
+        for (int i = 0; i < sources.length; i++) {
+            values[i] = sources[i].get();
+        }
+
+        loop++;
+    }
+
+    /**
+     * Gets a sensor's value from this loop's snapshot
+     *
+     * @param slot the slot from {@link #register(AxisGetter)}
+     * @return the value
+     */
+    public double get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Changes a sensor's value for the rest of the loop. Use when the sensor is
+     * reset, so everything after the reset sees the new value instead of the
+     * one read at the start of the loop.
+     *
+     * @param slot the slot from {@link #register(AxisGetter)}
+     * @param value the sensor's new value
+     */
+    public void set(int slot, double value) {
+        values[slot] = value;
+    }
+
+    /**
+     * @return the fpga time the snapshot was taken at in microseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the number of snapshots taken
+     */
+    public long getLoop() {
+        return loop;
+    }
+}
@@ -0,0 +1,44 @@
+package frc.robot.utilities.filters;
+
+/**
+ * Exponential moving average. Each value moves the output part of the way
+ * towards it, so recent values count the most. The first value is taken as is.
+ */
+public class ExponentialAverage implements Filter {
+
+    private final double smoothing;
+    private boolean primed;
+
+    private double average;
+
+    /**
+     * @param smoothing how far each value moves the output, from 0 to 1. 1 is no
+     *                  filtering, smaller is smoother but slower
+     */
+    public ExponentialAverage(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    @Override
+    public double calculate(double value) {
+        if (primed) {
+            average += smoothing * (value - average);
+        } else {
+            average = value;
+            primed = true;
+        }
+
+        return average;
+    }
+
+    @Override
+    public double get() {
+        return average;
+    }
+
+    @Override
+    public void reset() {
+        primed = false;
+        average = 0;
+    }
+}
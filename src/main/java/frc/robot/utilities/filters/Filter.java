@@ -0,0 +1,26 @@
+package frc.robot.utilities.filters;
+
+/**
+ * A filter over a stream of values. Filters work on primitive doubles and
+ * don't allocate after they are created, so they can run every loop.
+ */
+public interface Filter {
+
+    /**
+     * Adds a new value to the filter
+     *
+     * @param value the new value
+     * @return the filtered value
+     */
+    public double calculate(double value);
+
+    /**
+     * @return the last filtered value, or 0 if nothing has been added
+     */
+    public double get();
+
+    /**
+     * Forgets every value added so far
+     */
+    public void reset();
+}
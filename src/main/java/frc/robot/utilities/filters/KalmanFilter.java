@@ -0,0 +1,58 @@
+package frc.robot.utilities.filters;
+
+/**
+ * One dimensional Kalman filter for a value that holds steady or drifts
+ * slowly, like a distance to a target. Trusts new values more the noisier
+ * the process is compared to the measurements.
+ */
+public class KalmanFilter implements Filter {
+
+    private final double processNoise;
+    private final double measurementNoise;
+    private boolean primed;
+
+    // the estimate and its variance
+    private double estimate;
+    private double variance;
+
+    /**
+     * @param processNoise how much the real value can change between measurements, as a variance
+     * @param measurementNoise how noisy the measurements are, as a variance
+     */
+    public KalmanFilter(double processNoise, double measurementNoise) {
+        this.processNoise = processNoise;
+        this.measurementNoise = measurementNoise;
+    }
+
+    @Override
+    public double calculate(double value) {
+        if (!primed) {
+            estimate = value;
+            variance = measurementNoise;
+            primed = true;
+            return estimate;
+        }
+
+        // predict, the value may have moved since the last measurement
+        variance += processNoise;
+
+        // update, blending in the measurement by how much it can be trusted
+        double gain = variance / (variance + measurementNoise);
+        estimate += gain * (value - estimate);
+        variance *= 1 - gain;
+
+        return estimate;
+    }
+
+    @Override
+    public double get() {
+        return estimate;
+    }
+
+    @Override
+    public void reset() {
+        primed = false;
+        estimate = 0;
+        variance = 0;
+    }
+}
@@ -0,0 +1,67 @@
+package frc.robot.utilities.filters;
+
+import java.util.Arrays;
+
+/**
+ * Median of the last n values, which throws out single bad readings without
+ * lagging like an average. The window is kept sorted alongside the order values
+ * came in, so each value is a binary search and a short array shift. Meant for
+ * small windows.
+ */
+public class MedianFilter implements Filter {
+
+    // values in the order they came in, and the same values sorted
+    private final double[] window;
+    private final double[] sorted;
+
+    private int next;
+    private int count;
+
+    private double median;
+
+    /**
+     * @param size the number of values to take the median of
+     */
+    public MedianFilter(int size) {
+        window = new double[size];
+        sorted = new double[size];
+    }
+
+    @Override
+    public double calculate(double value) {
+        if (count == window.length) {
+            // takes the oldest value out of the sorted window
+            int oldest = Arrays.binarySearch(sorted, 0, count, window[next]);
+            System.arraycopy(sorted, oldest + 1, sorted, oldest, count - oldest - 1);
+            count--;
+        }
+
+        int index = Arrays.binarySearch(sorted, 0, count, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+
+        System.arraycopy(sorted, index, sorted, index + 1, count - index);
+        sorted[index] = value;
+        count++;
+
+        window[next] = value;
+        next = (next + 1) % window.length;
+
+        int middle = count / 2;
+        median = count % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+        return median;
+    }
+
+    @Override
+    public double get() {
+        return median;
+    }
+
+    @Override
+    public void reset() {
+        next = 0;
+        count = 0;
+        median = 0;
+    }
+}
@@ -0,0 +1,62 @@
+package frc.robot.utilities.filters;
+
+import java.util.Arrays;
+
+/**
+ * Average of the last n values. Keeps a running sum so each value is O(1).
+ * The window starts full of the first value.
+ */
+public class MovingAverage implements Filter {
+
+    private final double[] window;
+    private int next;
+    private boolean primed;
+
+    private double sum;
+    private double average;
+
+    /**
+     * @param size the number of values to average
+     */
+    public MovingAverage(int size) {
+        window = new double[size];
+    }
+
+    @Override
+    public double calculate(double value) {
+        if (primed) {
+            sum += value - window[next];
+            window[next] = value;
+        } else {
+            Arrays.fill(window, value);
+            sum = value * window.length;
+            primed = true;
+        }
+
+        next = (next + 1) % window.length;
+
+        // adds the window up again every time round so rounding error can't build up
+        if (next == 0) {
+            sum = 0;
+            for (double element : window) {
+                sum += element;
+            }
+        }
+
+        average = sum / window.length;
+        return average;
+    }
+
+    @Override
+    public double get() {
+        return average;
+    }
+
+    @Override
+    public void reset() {
+        next = 0;
+        primed = false;
+        sum = 0;
+        average = 0;
+    }
+}
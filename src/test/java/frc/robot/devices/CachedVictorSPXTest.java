@@ -0,0 +1,54 @@
+package frc.robot.devices;
+
+import static org.junit.Assert.assertEquals;
+
+import com.ctre.phoenix.motorcontrol.ControlMode;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.wpi.first.hal.HAL;
+
+public class CachedVictorSPXTest {
+
+    // long enough that nothing is resent for the keep alive during a test
+    private static final double KEEP_ALIVE = 60;
+
+    @BeforeClass
+    public static void initializeHal() {
+        HAL.initialize(500, 0);
+    }
+
+    @Test
+    public void identicalCommandsAreSentOnce() {
+        CachedVictorSPX victor = new CachedVictorSPX(61, KEEP_ALIVE);
+
+        victor.set(ControlMode.PercentOutput, 0.5);
+        victor.set(ControlMode.PercentOutput, 0.5);
+
+        assertEquals(1, victor.getWritesSent());
+        assertEquals(1, victor.getWritesSaved());
+    }
+
+    @Test
+    public void changedCommandsAreSent() {
+        CachedVictorSPX victor = new CachedVictorSPX(62, KEEP_ALIVE);
+
+        victor.set(ControlMode.PercentOutput, 0.5);
+        victor.set(ControlMode.PercentOutput, 0.25);
+        victor.set(ControlMode.Position, 0.25);
+
+        assertEquals(3, victor.getWritesSent());
+    }
+
+    @Test
+    public void neutralOutputResendsTheNextCommand() {
+        CachedVictorSPX victor = new CachedVictorSPX(63, KEEP_ALIVE);
+
+        victor.set(ControlMode.PercentOutput, 0.5);
+        victor.neutralOutput();
+        victor.set(ControlMode.PercentOutput, 0.5);
+
+        assertEquals(2, victor.getWritesSent());
+    }
+}
@@ -0,0 +1,100 @@
+package frc.robot.logging;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.Test;
+
+public class CsvLogEncoderTest {
+
+    private static final int WARMUP_FRAMES = 20_000, WINDOW_FRAMES = 1000, WINDOWS = 5;
+
+    private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void encodingFramesAllocatesNothing() {
+        for (LogFormat format : LogFormat.values()) {
+            assertEquals(format + " bytes allocated", 0, allocatedEncoding(format));
+        }
+    }
+
+    @Test
+    public void smallValuesKeepTheirDigits() {
+        assertEquals("1.234E-7", encode(1.234e-7));
+        assertEquals("-5.0E-4", encode(-5e-4));
+        assertEquals("4.940656E-324", encode(Double.MIN_VALUE));
+        assertEquals("0.001", encode(0.001));
+    }
+
+    @Test
+    public void mantissaRoundingUpToTenIsRenormalized() {
+        assertEquals("1.0E13", encode(9.9999999e12));
+        assertEquals("1.0E-4", encode(9.9999999e-5));
+        assertEquals("-1.0E-4", encode(-9.9999999e-5));
+    }
+
+    @Test
+    public void plainValuesAreWrittenLikeDoubleToString() {
+        assertEquals("0.0", encode(0));
+        assertEquals("0.0", encode(-0.0));
+        assertEquals("0.5", encode(0.5));
+        assertEquals("-12.25", encode(-12.25));
+        assertEquals("1.5E12", encode(1.5e12));
+        assertEquals("NaN", encode(Double.NaN));
+    }
+
+    /**
+     * Encodes frames until the jit has compiled the encoder, then counts the
+     * bytes allocated encoding more. The least of several windows is used, a
+     * frame that allocates shows up in every window, but something like a
+     * collection retiring the thread's buffer can land in one.
+     */
+    private static long allocatedEncoding(LogFormat format) {
+        LogEncoder encoder = format.createEncoder();
+        encoder.encodeHeader(0, LoggerRelations.getChannelNames(), LoggerRelations.getChannelTypes());
+
+        double[] values = new double[LoggerRelations.getChannelCount()];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encoder.getMaxFrameSize(values.length));
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            encodeFrame(encoder, buffer, values, i);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long least = Long.MAX_VALUE;
+        int frame = WARMUP_FRAMES;
+
+        for (int window = 0; window < WINDOWS; window++) {
+            long start = threads.getThreadAllocatedBytes(thread);
+
+            for (int i = 0; i < WINDOW_FRAMES; i++) {
+                encodeFrame(encoder, buffer, values, frame++);
+            }
+
+            least = Math.min(least, threads.getThreadAllocatedBytes(thread) - start);
+        }
+
+        return least;
+    }
+
+    private static void encodeFrame(LogEncoder encoder, ByteBuffer buffer, double[] values, int frame) {
+        // values across every range the encoder writes differently
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (frame + i) % 4 == 0 ? -frame * 1e-9 : (frame + i) * 0.37e3 * ((i % 3) * 1e8 + 1);
+        }
+
+        buffer.clear();
+        encoder.encodeFrame(buffer, frame * 20_000L, values);
+    }
+
+    private static String encode(double value) {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        NumberEncoder.putDouble(buffer, value);
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII);
+    }
+}
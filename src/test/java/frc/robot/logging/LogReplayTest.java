@@ -0,0 +1,100 @@
+package frc.robot.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.wpi.first.hal.HAL;
+
+public class LogReplayTest {
+
+    private static final LoggerRelations CHANNEL = LoggerRelations.LEFT_MOTOR_POWER;
+
+    @BeforeClass
+    public static void initializeHal() {
+        HAL.initialize(500, 0);
+    }
+
+    @Test
+    public void baseNameReplaysEverySegment() throws IOException {
+        String base = writeLog();
+
+        try (LogReplay replay = LogReplay.open(base)) {
+            for (long time = 20000; time <= 100000; time += 20000) {
+                assertTrue(replay.step());
+                assertEquals(time, replay.getTime());
+                assertEquals(time * 1e-6, replay.get(CHANNEL), 0);
+            }
+
+            assertFalse(replay.step());
+        }
+    }
+
+    @Test
+    public void segmentStartsTheReplayThere() throws IOException {
+        String base = writeLog();
+
+        try (LogReplay replay = LogReplay.open(base + "-001.bin.gz")) {
+            for (long time = 60000; time <= 100000; time += 20000) {
+                assertTrue(replay.step());
+                assertEquals(time, replay.getTime());
+            }
+
+            assertFalse(replay.step());
+        }
+    }
+
+    /**
+     * Writes a log split like the writer does, a raw segment padded with
+     * unused space, an archived one, and a raw one still being written
+     *
+     * @return the log's base name
+     */
+    private static String writeLog() throws IOException {
+        String base = Files.createTempDirectory("replay").resolve("SyncLog-test").toString();
+
+        writeSegment(base + "-000.bin", 64, 20000, 40000);
+        writeSegment(base + "-001.bin.gz", 0, 60000, 80000);
+        writeSegment(base + "-002.bin", 0, 100000);
+
+        return base;
+    }
+
+    private static void writeSegment(String location, int unused, long... times) throws IOException {
+        BinaryLogEncoder encoder = new BinaryLogEncoder(Double.BYTES);
+        ByteBuffer header = encoder.encodeHeader(
+            0,
+            new String[] { CHANNEL.name() },
+            new ChannelType[] { ChannelType.CONTINUOUS }
+        );
+
+        ByteBuffer buffer = ByteBuffer.allocate(header.remaining() + times.length * encoder.getMaxFrameSize(1) + unused);
+        buffer.put(header);
+
+        for (long time : times) {
+            encoder.encodeFrame(buffer, time, new double[] { time * 1e-6 });
+        }
+
+        // zeroed space the segment was preallocated with
+        buffer.position(buffer.position() + unused);
+
+        OutputStream file = Files.newOutputStream(Path.of(location));
+        if (location.endsWith(LogArchiver.ARCHIVE_EXTENSION)) {
+            file = new GZIPOutputStream(file);
+        }
+
+        try (OutputStream output = file) {
+            output.write(buffer.array(), 0, buffer.position());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package frc.robot.sim;
+
+import com.revrobotics.ControlType;
+
+import edu.wpi.first.hal.SimDouble;
+import edu.wpi.first.hal.sim.PCMSim;
+import edu.wpi.first.hal.sim.SimDeviceSim;
+import frc.robot.subsystems.Drivetrain;
+import frc.robot.subsystems.Shifter;
+import frc.robot.utilities.Ports;
+
+/**
+ * Simulates the drivetrain behind {@link Drivetrain}. Reads the lead sparks'
+ * commands and the shifter solenoid, runs the sparks' position loops, drives
+ * three neos per side through the current gear into a differential drive, and
+ * writes the motor encoders back. Everything is stepped at the spark's 1 kHz
+ * loop rate.
+ *
+ * <p>
+ * Positive output drives each side forward, the sparks' inversion is already
+ * applied on the robot side.
+ */
+public class DrivetrainSim {
+
+    // neo motor constants
+    private static final double
+    NOMINAL_VOLTAGE = 12,
+    STALL_TORQUE = 2.6, // Nm
+    STALL_CURRENT = 105, // A
+    FREE_CURRENT = 1.8, // A
+    FREE_SPEED = 5676 * 2 * Math.PI / 60; // rad/s
+
+    private static final double
+    RESISTANCE = NOMINAL_VOLTAGE / STALL_CURRENT,
+    KV = FREE_SPEED / (NOMINAL_VOLTAGE - FREE_CURRENT * RESISTANCE), // rad/s per volt
+    KT = STALL_TORQUE / STALL_CURRENT; // Nm per amp
+
+    private static final int MOTORS_PER_SIDE = 3;
+
+    private static final double WHEEL_RADIUS = Drivetrain.WHEEL_DIAMETER * 0.0254 / 2; // m
+
+    //TODO - make right
+    private static final double
+    TRACK_WIDTH = 0.6, // m
+    MASS = 60, // kg, with bumpers and battery
+    MOMENT_OF_INERTIA = 6; // kg m^2
+
+    private final SimDouble leftMode, leftSetpoint, leftOutput, leftPosition, leftVelocity;
+    private final SimDouble rightMode, rightSetpoint, rightOutput, rightPosition, rightVelocity;
+    private final PCMSim pcm;
+
+    private final SparkPIDSim leftPID, rightPID;
+    private double lastLeftMode, lastRightMode;
+
+    // robot state, speeds in m/s and rad/s
+    private double leftSpeed, rightSpeed;
+    private double x, y, heading;
+    private double distance;
+
+    public DrivetrainSim() {
+        SimDeviceSim left = SimDevices.getSparkMax(Ports.LEFT_DRIVE_MAIN);
+        leftMode = left.getDouble("Control Mode");
+        leftSetpoint = left.getDouble("Setpoint");
+        leftOutput = left.getDouble("Applied Output");
+        leftPosition = left.getDouble("Position");
+        leftVelocity = left.getDouble("Velocity");
+
+        SimDeviceSim right = SimDevices.getSparkMax(Ports.RIGHT_DRIVE_MAIN);
+        rightMode = right.getDouble("Control Mode");
+        rightSetpoint = right.getDouble("Setpoint");
+        rightOutput = right.getDouble("Applied Output");
+        rightPosition = right.getDouble("Position");
+        rightVelocity = right.getDouble("Velocity");
+
+        pcm = new PCMSim(Ports.PCM_1);
+
+        leftPID = new SparkPIDSim(Drivetrain.P, Drivetrain.I, Drivetrain.D,
+            -Drivetrain.CLOSED_LOOP_MAX_OUTPUT, Drivetrain.CLOSED_LOOP_MAX_OUTPUT);
+        rightPID = new SparkPIDSim(Drivetrain.P, Drivetrain.I, Drivetrain.D,
+            -Drivetrain.CLOSED_LOOP_MAX_OUTPUT, Drivetrain.CLOSED_LOOP_MAX_OUTPUT);
+    }
+
+    /**
+     * Moves the simulation forward
+     *
+     * @param time the time to simulate in seconds, usually one robot loop
+     */
+    public void update(double time) {
+        double ratio = pcm.getSolenoidOutput(Ports.SHIFT_SOLENOID_UP) ? Shifter.HIGH_GEAR_RATIO : Shifter.LOW_GEAR_RATIO;
+
+        // the mode is checked once a loop since it only changes from robot code
+        if (leftMode.get() != lastLeftMode) {
+            leftPID.reset();
+            lastLeftMode = leftMode.get();
+        }
+        if (rightMode.get() != lastRightMode) {
+            rightPID.reset();
+            lastRightMode = rightMode.get();
+        }
+
+        for (double t = 0; t < time - 1e-9; t += SparkPIDSim.PERIOD) {
+            double left = getOutput(leftMode, leftSetpoint, leftPosition, leftPID);
+            double right = getOutput(rightMode, rightSetpoint, rightPosition, rightPID);
+
+            leftOutput.set(left);
+            rightOutput.set(right);
+
+            step(left, right, ratio, SparkPIDSim.PERIOD);
+        }
+    }
+
+    /**
+     * @return the distance driven by the middle of the robot in meters
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return the heading in degrees, counter clockwise positive
+     */
+    public double getHeading() {
+        return Math.toDegrees(heading);
+    }
+
+    /**
+     * @return the field position along the starting heading in meters
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * @return the field position to the left of the starting heading in meters
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Stops the robot and puts it back at the start, the encoders aren't changed
+     */
+    public void reset() {
+        leftSpeed = rightSpeed = 0;
+        x = y = heading = distance = 0;
+        leftPID.reset();
+        rightPID.reset();
+    }
+
+    // what the spark would output this millisecond
+    private double getOutput(SimDouble mode, SimDouble setpoint, SimDouble position, SparkPIDSim pid) {
+        if ((int) mode.get() == ControlType.kPosition.ordinal()) {
+            return pid.calculate(setpoint.get(), position.get());
+        }
+
+        return Math.max(-1, Math.min(1, setpoint.get()));
+    }
+
+    private void step(double left, double right, double ratio, double dt) {
+        double leftForce = getForce(left, leftSpeed, ratio);
+        double rightForce = getForce(right, rightSpeed, ratio);
+
+        double acceleration = (leftForce + rightForce) / MASS;
+        double angularAcceleration = (rightForce - leftForce) * TRACK_WIDTH / 2 / MOMENT_OF_INERTIA;
+
+        double speed = (leftSpeed + rightSpeed) / 2 + acceleration * dt;
+        double turnRate = (rightSpeed - leftSpeed) / TRACK_WIDTH + angularAcceleration * dt;
+
+        leftSpeed = speed - turnRate * TRACK_WIDTH / 2;
+        rightSpeed = speed + turnRate * TRACK_WIDTH / 2;
+
+        heading += turnRate * dt;
+        x += speed * Math.cos(heading) * dt;
+        y += speed * Math.sin(heading) * dt;
+        distance += speed * dt;
+
+        // motor encoders count motor rotations, whatever the gear
+        double motorRotations = ratio / (2 * Math.PI * WHEEL_RADIUS);
+
+        leftPosition.set(leftPosition.get() + leftSpeed * dt * motorRotations);
+        rightPosition.set(rightPosition.get() + rightSpeed * dt * motorRotations);
+        leftVelocity.set(leftSpeed * motorRotations * 60);
+        rightVelocity.set(rightSpeed * motorRotations * 60);
+    }
+
+    // force on the ground from one side's motors in newtons
+    private double getForce(double output, double speed, double ratio) {
+        double motorSpeed = speed / WHEEL_RADIUS * ratio;
+        double current = (output * NOMINAL_VOLTAGE - motorSpeed / KV) / RESISTANCE;
+
+        return MOTORS_PER_SIDE * KT * current * ratio / WHEEL_RADIUS;
+    }
+}
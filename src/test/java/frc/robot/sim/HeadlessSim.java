@@ -0,0 +1,79 @@
+package frc.robot.sim;
+
+import edu.wpi.first.wpilibj.TimedRobot;
+import frc.robot.diagnostics.Histogram;
+
+/**
+ * Runs the whole robot on a desktop with no driver station or gui. The clock
+ * is paused and stepped one robot period after each loop, so loops run back
+ * to back as fast as the code allows, and the real time each loop took is
+ * reported at the end. The drivetrain is driven through {@link DrivetrainSim},
+ * so autonomous routines can be run and timed, and where the robot ended up is
+ * reported too.
+ *
+ * <p>
+ * Run with {@code ./gradlew simulateHeadless -Pseconds=150 -Pauto}
+ */
+public final class HeadlessSim {
+
+    private HeadlessSim() {
+    }
+
+    /**
+     * @param args the number of seconds to simulate, and "auto" to run
+     *             autonomous instead of teleop
+     */
+    public static void main(String... args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 150;
+        boolean autonomous = args.length > 1 && args[1].equals("auto");
+
+        SimRobot robot;
+        try {
+            robot = new SimRobot(autonomous);
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        DrivetrainSim drivetrain = robot.getDrivetrain();
+
+        Histogram loopTimes = new Histogram();
+        int loops = (int) (seconds / TimedRobot.kDefaultPeriod);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < loops; i++) {
+            long loopStart = System.nanoTime();
+
+            robot.runLoop();
+
+            loopTimes.record(System.nanoTime() - loopStart);
+
+            robot.step();
+        }
+
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format(
+            "Simulated %d loops, %.1f s in %.1f s (%.0fx real time)",
+            loops,
+            seconds,
+            elapsed,
+            seconds / elapsed
+        ));
+        System.out.println(String.format(
+            "Loop time: mean %.3f ms, p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+            loopTimes.getMean() / 1e6,
+            loopTimes.getPercentile(50) / 1e6,
+            loopTimes.getPercentile(99) / 1e6,
+            loopTimes.getMax() / 1e6
+        ));
+        System.out.println(String.format(
+            "Drivetrain: drove %.2f m, ended at (%.2f, %.2f) m facing %.1f deg",
+            drivetrain.getDistance(),
+            drivetrain.getX(),
+            drivetrain.getY(),
+            drivetrain.getHeading()
+        ));
+
+        // the HAL leaves non daemon threads running
+        System.exit(0);
+    }
+}
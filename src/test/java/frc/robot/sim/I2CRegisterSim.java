@@ -0,0 +1,75 @@
+package frc.robot.sim;
+
+import edu.wpi.first.hal.sim.CallbackStore;
+import edu.wpi.first.hal.sim.I2CSim;
+import edu.wpi.first.wpilibj.I2C.Port;
+
+/**
+ * Pretends to be an I2C device with 256 byte registers. A write picks the
+ * register (and writes any bytes after it), and a read returns registers
+ * starting from the one picked. The simulated bus has no addresses, so there
+ * can only be one of these on each port.
+ */
+public class I2CRegisterSim {
+
+    private final byte[] registers = new byte[256];
+
+    private int register;
+
+    // the callbacks are removed if these are garbage collected
+    private final CallbackStore readCallback, writeCallback;
+
+    /**
+     * @param port the port the device is on
+     */
+    public I2CRegisterSim(Port port) {
+        I2CSim sim = new I2CSim(port.value);
+
+        writeCallback = sim.registerWriteCallback(this::write);
+        readCallback = sim.registerReadCallback(this::read);
+    }
+
+    /**
+     * Sets a register's value
+     *
+     * @param register the register
+     * @param value the value, 0 - 255
+     */
+    public void set(int register, int value) {
+        registers[register & 0xFF] = (byte) value;
+    }
+
+    /**
+     * @param register the register
+     * @return the register's value, 0 - 255
+     */
+    public int get(int register) {
+        return registers[register & 0xFF] & 0xFF;
+    }
+
+    /**
+     * Stops answering on the port
+     */
+    public void close() {
+        readCallback.close();
+        writeCallback.close();
+    }
+
+    private void write(String name, byte[] buffer, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        register = buffer[0] & 0xFF;
+
+        for (int i = 1; i < count; i++) {
+            registers[(register + i - 1) & 0xFF] = buffer[i];
+        }
+    }
+
+    private void read(String name, byte[] buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer[i] = registers[(register + i) & 0xFF];
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package frc.robot.sim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.diagnostics.Histogram;
+
+/**
+ * Runs the robot code on the simulated clock and checks how long a loop takes
+ * and how many bytes it allocates against a budget, so a change that makes
+ * the loop slower or makes garbage fails the build instead of showing up as
+ * overruns at an event.
+ *
+ * <p>
+ * Times are checked at the 99th percentile, a desktop's max includes the os
+ * scheduling other things. Bytes are checked at the max, allocations don't
+ * depend on the machine. Everything is measured after a warm up, so the jit
+ * has compiled the loop.
+ */
+public class LoopBudgetTest {
+
+    private static final int WARMUP_LOOPS = 2000, MEASURED_LOOPS = 5000;
+
+    // budgets, tighten these when the loop gets faster
+    private static final long
+    ARCADE_DRIVE_BYTES = 0,
+    TELEOP_LOOP_NANOS = 2_000_000,
+    TELEOP_LOOP_BYTES = 4096;
+
+    private static final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static SimRobot robot;
+    private static Command arcadeDrive;
+
+    @BeforeClass
+    public static void startRobot() {
+        robot = new SimRobot(false);
+        arcadeDrive = CommandScheduler.getInstance().getDefaultCommand(
+            robot.getRobot().getRobotContainer().getDrivetrain()
+        );
+
+        for (int i = 0; i < WARMUP_LOOPS; i++) {
+            robot.runLoop();
+            robot.step();
+        }
+
+        // starts measuring with an empty heap so a collection doesn't land in it
+        System.gc();
+    }
+
+    @Test
+    public void arcadeDriveAllocatesNothing() {
+        Measurement measurement = measure(arcadeDrive::execute, () -> {});
+
+        assertEquals("ArcadeDrive.execute() max bytes", ARCADE_DRIVE_BYTES, measurement.maxBytes);
+    }
+
+    @Test
+    public void teleopLoopIsUnderTimeBudget() {
+        Measurement measurement = measure(robot::runLoop, robot::step);
+        long p99 = measurement.times.getPercentile(99);
+
+        assertTrue(
+            String.format("teleop loop p99 %.3f ms, budget %.3f ms", p99 / 1e6, TELEOP_LOOP_NANOS / 1e6),
+            p99 <= TELEOP_LOOP_NANOS
+        );
+    }
+
+    @Test
+    public void teleopLoopIsUnderAllocationBudget() {
+        Measurement measurement = measure(robot::runLoop, robot::step);
+
+        assertTrue(
+            String.format("teleop loop max %d B, budget %d B", measurement.maxBytes, TELEOP_LOOP_BYTES),
+            measurement.maxBytes <= TELEOP_LOOP_BYTES
+        );
+    }
+
+    /**
+     * Times something and counts what it allocates
+     *
+     * @param measured what is measured
+     * @param between run after each measurement without being measured
+     * @return the times and the most allocated by one run
+     */
+    private static Measurement measure(Runnable measured, Runnable between) {
+        long thread = Thread.currentThread().getId();
+        Measurement measurement = new Measurement();
+
+        for (int i = 0; i < MEASURED_LOOPS; i++) {
+            long startBytes = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+
+            measured.run();
+
+            long time = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(thread) - startBytes;
+
+            measurement.times.record(time);
+            measurement.maxBytes = Math.max(measurement.maxBytes, allocated);
+
+            between.run();
+        }
+
+        return measurement;
+    }
+
+    private static class Measurement {
+        final Histogram times = new Histogram();
+        long maxBytes;
+    }
+}
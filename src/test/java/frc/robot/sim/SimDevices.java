@@ -0,0 +1,108 @@
+package frc.robot.sim;
+
+import java.util.Arrays;
+
+import edu.wpi.first.hal.sim.DIOSim;
+import edu.wpi.first.hal.sim.SimDeviceSim;
+import edu.wpi.first.hal.sim.mockdata.DriverStationDataJNI;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.I2C.Port;
+import frc.robot.utilities.Ports;
+
+/**
+ * The simulated side of the devices {@link frc.robot.RobotContainer} makes.
+ * Solenoids, the compressor, the pdp and the led strip are simulated by the
+ * HAL, sparks and victors by their sim devices (see
+ * {@link frc.robot.devices.CachedSparkMax}), and this adds sensor inputs
+ * that start in a sensible state, a color sensor that answers on I2C, and
+ * joysticks on every driver station port.
+ *
+ * <p>
+ * Call {@link #setUp()} after the HAL is initialized and before the robot
+ * code is made.
+ */
+public class SimDevices {
+
+    // register the color sensor reads to check it is there, and its answer
+    private static final int COLOR_SENSOR_PART_ID = 0x06, COLOR_SENSOR_ID = 0xC2;
+
+    // the most axes, buttons and povs the HAL allows on a joystick
+    private static final int JOYSTICK_AXES = 12, JOYSTICK_BUTTONS = 32, JOYSTICK_POVS = 12;
+
+    private static DIOSim breakbeamEnter, breakbeamExit, upperLimit;
+    private static I2CRegisterSim colorSensor;
+
+    private SimDevices() {
+    }
+
+    /**
+     * Sets up the simulated inputs
+     */
+    public static void setUp() {
+        // breakbeams read true when nothing is in them
+        breakbeamEnter = new DIOSim(Ports.BREAKBEAM_ENTER);
+        breakbeamExit = new DIOSim(Ports.BREAKBEAM_EXIT);
+        breakbeamEnter.setValue(true);
+        breakbeamExit.setValue(true);
+
+        // the limit switch reads true when it isn't pressed
+        upperLimit = new DIOSim(Ports.UPPER_LIMIT);
+        upperLimit.setValue(true);
+
+        colorSensor = new I2CRegisterSim(Port.kOnboard);
+        colorSensor.set(COLOR_SENSOR_PART_ID, COLOR_SENSOR_ID);
+
+        // reading a button or axis a joystick doesn't have builds a warning
+        // every call, so every port gets a centered joystick with all of them
+        float[] axes = new float[JOYSTICK_AXES];
+        short[] povs = new short[JOYSTICK_POVS];
+        Arrays.fill(povs, (short) -1);
+
+        for (byte port = 0; port < DriverStation.kJoystickPorts; port++) {
+            DriverStationDataJNI.setJoystickAxes(port, axes);
+            DriverStationDataJNI.setJoystickButtons(port, 0, JOYSTICK_BUTTONS);
+            DriverStationDataJNI.setJoystickPOVs(port, povs);
+        }
+    }
+
+    /**
+     * @param broken if there is a ball in the conveyor's entry breakbeam
+     */
+    public static void setBreakbeamEnter(boolean broken) {
+        breakbeamEnter.setValue(!broken);
+    }
+
+    /**
+     * @param broken if there is a ball in the conveyor's exit breakbeam
+     */
+    public static void setBreakbeamExit(boolean broken) {
+        breakbeamExit.setValue(!broken);
+    }
+
+    /**
+     * @param pressed if the intake arm is at its upper limit
+     */
+    public static void setUpperLimit(boolean pressed) {
+        upperLimit.setValue(!pressed);
+    }
+
+    /**
+     * Gets a spark's sim device, to read its output or set its encoder
+     *
+     * @param id the can id of the spark
+     * @return the sim device
+     */
+    public static SimDeviceSim getSparkMax(int id) {
+        return new SimDeviceSim("SPARK MAX[" + id + "]");
+    }
+
+    /**
+     * Gets a victor's sim device, to read its output
+     *
+     * @param id the can id of the victor
+     * @return the sim device
+     */
+    public static SimDeviceSim getVictorSPX(int id) {
+        return new SimDeviceSim("VictorSPX[" + id + "]");
+    }
+}
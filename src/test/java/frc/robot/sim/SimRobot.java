@@ -0,0 +1,92 @@
+package frc.robot.sim;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.hal.sim.DriverStationSim;
+import edu.wpi.first.hal.sim.mockdata.SimulatorJNI;
+import edu.wpi.first.wpilibj.TimedRobot;
+import frc.robot.Robot;
+
+/**
+ * The robot code running against the simulated HAL with the clock under our
+ * control. The robot's loop is run by hand instead of through
+ * startCompetition(), which waits on the clock, so loops run back to back.
+ * Used by {@link HeadlessSim} and {@link LoopBudgetTest}.
+ */
+public class SimRobot {
+
+    private static final long PERIOD_MICROS = (long) (TimedRobot.kDefaultPeriod * 1e6);
+
+    private final Robot robot;
+    private final DrivetrainSim drivetrain;
+    private final boolean autonomous;
+
+    /**
+     * Initializes the HAL, enables the robot and runs the robot code's init.
+     * Only one can be made per process.
+     *
+     * @param autonomous if the robot runs autonomous instead of teleop
+     */
+    public SimRobot(boolean autonomous) {
+        this.autonomous = autonomous;
+
+        if (!HAL.initialize(500, 0)) {
+            throw new IllegalStateException("Could not initialize the HAL");
+        }
+
+        SimulatorJNI.pauseTiming();
+        SimDevices.setUp();
+
+        DriverStationSim driverStation = new DriverStationSim();
+        driverStation.setDsAttached(true);
+        driverStation.setAutonomous(autonomous);
+        driverStation.setEnabled(true);
+        driverStation.notifyNewData();
+
+        robot = new Robot();
+        robot.robotInit();
+
+        // the sparks' sim devices exist once the robot code has made them
+        drivetrain = new DrivetrainSim();
+
+        if (autonomous) {
+            robot.autonomousInit();
+        } else {
+            robot.teleopInit();
+        }
+    }
+
+    /**
+     * Runs one loop of the robot code, what TimedRobot would run each period
+     */
+    public void runLoop() {
+        if (autonomous) {
+            robot.autonomousPeriodic();
+        } else {
+            robot.teleopPeriodic();
+        }
+        robot.robotPeriodic();
+    }
+
+    /**
+     * Moves the simulated mechanisms and the clock forward one robot period.
+     * Call after {@link #runLoop()}.
+     */
+    public void step() {
+        drivetrain.update(TimedRobot.kDefaultPeriod);
+        SimulatorJNI.stepTiming(PERIOD_MICROS);
+    }
+
+    /**
+     * @return the robot code
+     */
+    public Robot getRobot() {
+        return robot;
+    }
+
+    /**
+     * @return the simulated drivetrain
+     */
+    public DrivetrainSim getDrivetrain() {
+        return drivetrain;
+    }
+}
@@ -0,0 +1,63 @@
+package frc.robot.sim;
+
+/**
+ * Works like the pid loop that runs on a spark max, which runs every
+ * millisecond. The integral adds up the error each step and the derivative is
+ * the change in error each step, neither is scaled by time.
+ */
+public class SparkPIDSim {
+
+    // how often the spark runs its loop in seconds
+    public static final double PERIOD = 0.001;
+
+    private final double p, i, d;
+    private final double minOutput, maxOutput;
+
+    private double integral, lastError;
+    private boolean fresh = true;
+
+    /**
+     * @param p the proportional gain
+     * @param i the integral gain
+     * @param d the derivative gain
+     * @param minOutput the lowest output, -1 - 1
+     * @param maxOutput the highest output, -1 - 1
+     */
+    public SparkPIDSim(double p, double i, double d, double minOutput, double maxOutput) {
+        this.p = p;
+        this.i = i;
+        this.d = d;
+        this.minOutput = minOutput;
+        this.maxOutput = maxOutput;
+    }
+
+    /**
+     * Runs one step of the loop
+     *
+     * @param setpoint the target
+     * @param measurement the current value
+     * @return the output, -1 - 1
+     */
+    public double calculate(double setpoint, double measurement) {
+        double error = setpoint - measurement;
+
+        if (fresh) {
+            lastError = error;
+            fresh = false;
+        }
+
+        integral += error;
+        double output = p * error + i * integral + d * (error - lastError);
+        lastError = error;
+
+        return Math.max(minOutput, Math.min(maxOutput, output));
+    }
+
+    /**
+     * Clears the integral and derivative, like changing control modes does
+     */
+    public void reset() {
+        integral = 0;
+        fresh = true;
+    }
+}
@@ -0,0 +1,52 @@
+package frc.robot.utilities;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.wpi.first.hal.HAL;
+
+public class SensorSnapshotTest {
+
+    private static final double DELTA = 1e-9;
+
+    // the value the fake sensor reads
+    private double sensor;
+
+    @BeforeClass
+    public static void initializeHal() {
+        HAL.initialize(500, 0);
+    }
+
+    @Test
+    public void valuesAreReadOnceALoop() {
+        SensorSnapshot snapshot = SensorSnapshot.getInstance();
+        int slot = snapshot.register(() -> sensor);
+
+        sensor = 12;
+        snapshot.update();
+        sensor = 20;
+
+        assertEquals(12, snapshot.get(slot), DELTA);
+    }
+
+    @Test
+    public void resetMidLoopIsSeenForTheRestOfTheLoop() {
+        SensorSnapshot snapshot = SensorSnapshot.getInstance();
+        int slot = snapshot.register(() -> sensor);
+
+        sensor = 35;
+        snapshot.update();
+
+        // like setting a spark's encoder, the sensor and the snapshot both change
+        sensor = 0;
+        snapshot.set(slot, 0);
+        assertEquals(0, snapshot.get(slot), DELTA);
+
+        // the next loop reads the sensor again
+        sensor = 2;
+        snapshot.update();
+        assertEquals(2, snapshot.get(slot), DELTA);
+    }
+}